@@ -2,6 +2,7 @@ plugins {
     `java-library`
     `maven-publish`
     id("org.asciidoctor.jvm.convert") version "4.0.1"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "github.m4gshm"
@@ -59,6 +60,13 @@ tasks.test {
     useJUnitPlatform()
 }
 
+jmh {
+    jmhVersion.set("1.37")
+    benchmarkMode.add("thrpt")
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
+
 tasks.asciidoctor {
     dependsOn(project(":test:service1").tasks.build)
     baseDirFollowsSourceFile()
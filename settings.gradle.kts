@@ -1,4 +1,5 @@
 rootProject.name = "spring-boot-components-visualizer"
 
 include(":test:service1")
-include(":test:example")
\ No newline at end of file
+include(":test:example")
+include(":test:scalability")
\ No newline at end of file
@@ -0,0 +1,122 @@
+package io.github.m4gshm.components.visualizer.eval.bytecode;
+
+import io.github.m4gshm.components.visualizer.CallPointsHelper.CallPointsProvider;
+import io.github.m4gshm.components.visualizer.eval.bytecode.EvalContextFactoryImpl.DependentProvider;
+import io.github.m4gshm.components.visualizer.eval.bytecode.EvalFixtures.Client;
+import io.github.m4gshm.components.visualizer.eval.bytecode.InvokeIndex.InvokeIndexProvider;
+import io.github.m4gshm.components.visualizer.eval.result.DelayInvoke;
+import io.github.m4gshm.components.visualizer.eval.result.Multiple;
+import io.github.m4gshm.components.visualizer.eval.result.Resolver;
+import io.github.m4gshm.components.visualizer.eval.result.Result;
+import io.github.m4gshm.components.visualizer.model.CallPoint;
+import io.github.m4gshm.components.visualizer.model.Component;
+import org.apache.bcel.classfile.JavaClass;
+import org.apache.bcel.classfile.Method;
+import org.apache.bcel.generic.InstructionHandle;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.m4gshm.components.visualizer.CallPointsHelper.getMethods;
+import static io.github.m4gshm.components.visualizer.CallPointsHelper.isObject;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.BytecodeCache.newBytecodeCache;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.ClassSourceRepository.newClassSourceRepository;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.Eval.CallCache.noCallCache;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalFixtures.CALL;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalFixtures.newFixture;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.byName;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.getClassAndMethodSources;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.getClassSources;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.InvokeIndex.InvokeIndexProvider.newInvokeIndexCache;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.StringifyResolver.Level.varOnly;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.StringifyResolver.newStringify;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Throughput of the evaluation engine parts on compiled fixtures, run with the gc profiler to get allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EvalBenchmark {
+
+    @Param({"stringConcat", "switchFork", "loop", "lambda", "deepArguments"})
+    String fixture;
+
+    @Param({"false", "true"})
+    boolean memoizeEval;
+
+    EvalContextFactory evalContextFactory;
+    Component component;
+    JavaClass javaClass;
+    Method method;
+    InstructionHandle invoke;
+    Eval eval;
+    DelayInvoke delayInvoke;
+    Resolver resolver;
+
+    private static DelayInvoke toDelayInvoke(Result result) {
+        if (result instanceof DelayInvoke) {
+            return (DelayInvoke) result;
+        } else if (result instanceof Multiple) {
+            return ((Multiple) result).getResults().stream().filter(DelayInvoke.class::isInstance)
+                    .map(DelayInvoke.class::cast).findFirst().orElseThrow();
+        }
+        throw new IllegalStateException("unexpected eval result " + result);
+    }
+
+    private static List<CallPoint> getCallPoints(Class<?> type, ClassSourceRepository repository,
+                                                 InvokeIndexProvider invokeIndexProvider) {
+        return getClassSources(type, repository).stream().filter(javaClass -> !isObject(javaClass))
+                .flatMap(javaClass -> getMethods(javaClass, type, invokeIndexProvider)).collect(toList());
+    }
+
+    @Setup
+    public void setup() {
+        var data = newFixture(fixture);
+        var repository = newClassSourceRepository(-1);
+        var bytecodeCache = newBytecodeCache();
+        var invokeIndexProvider = newInvokeIndexCache(bytecodeCache);
+        var callPoints = new ConcurrentHashMap<Class<?>, List<CallPoint>>();
+        var callPointsProvider = (CallPointsProvider) type -> callPoints.computeIfAbsent(type,
+                t -> getCallPoints(t, repository, invokeIndexProvider));
+        var dependents = data.dependents;
+        var dependentProvider = (DependentProvider) c -> dependents.getOrDefault(c, List.of());
+
+        resolver = newStringify(varOnly, false);
+        evalContextFactory = new EvalContextFactoryImpl(noCallCache(), bytecodeCache, dependentProvider,
+                callPointsProvider, resolver, EvalSettings.builder().memoize(memoizeEval).build());
+        component = data.component;
+
+        var classAndMethod = getClassAndMethodSources(component.getType(), byName(data.methodName), repository)
+                .findFirst().orElseThrow();
+        javaClass = classAndMethod.getKey();
+        method = classAndMethod.getValue();
+        invoke = invokeIndexProvider.apply(javaClass).getInvokes(Client.class.getName(), CALL).stream()
+                .filter(site -> site.getMethod() == method).findFirst().orElseThrow().getHandle();
+
+        eval = evalContextFactory.getEvalContext(component, javaClass, method);
+        delayInvoke = toDelayInvoke(eval.eval(invoke));
+    }
+
+    @Benchmark
+    public Eval getEvalContext() {
+        return evalContextFactory.getEvalContext(component, javaClass, method);
+    }
+
+    @Benchmark
+    public Result eval() {
+        return eval.eval(invoke);
+    }
+
+    @Benchmark
+    public Collection<List<Result>> resolveInvokeParameters() {
+        return eval.resolveInvokeParameters(delayInvoke, resolver);
+    }
+}
@@ -0,0 +1,154 @@
+package io.github.m4gshm.components.visualizer.eval.bytecode;
+
+import io.github.m4gshm.components.visualizer.model.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class EvalFixtures {
+
+    public static final String CALL = "call";
+
+    public static Fixture newFixture(String name) {
+        switch (name) {
+            case "stringConcat":
+                return single(name, new StringConcat(), "run");
+            case "switchFork":
+                return single(name, new SwitchFork(), "fork");
+            case "loop":
+                return single(name, new Loop(), "run");
+            case "lambda":
+                return single(name, new Lambda(), "run");
+            case "deepArguments":
+                var level3 = new Level3();
+                var level2 = new Level2(level3);
+                var level1 = new Level1(level2);
+                var level3Component = Component.builder().name("level3").bean(level3).dependencies(Set.of()).build();
+                var level2Component = Component.builder().name("level2").bean(level2)
+                        .dependencies(Set.of(level3Component)).build();
+                var level1Component = Component.builder().name("level1").bean(level1)
+                        .dependencies(Set.of(level2Component)).build();
+                return new Fixture(level3Component, "call3", Map.of(
+                        level3Component, List.of(level2Component),
+                        level2Component, List.of(level1Component)
+                ));
+            default:
+                throw new IllegalArgumentException("unknown fixture " + name);
+        }
+    }
+
+    private static Fixture single(String name, Object bean, String methodName) {
+        return new Fixture(Component.builder().name(name).bean(bean).dependencies(Set.of()).build(), methodName, Map.of());
+    }
+
+    public interface Client {
+        String call(String value);
+    }
+
+    public static class Fixture {
+        public final Component component;
+        public final String methodName;
+        public final Map<Component, List<Component>> dependents;
+
+        public Fixture(Component component, String methodName, Map<Component, List<Component>> dependents) {
+            this.component = component;
+            this.methodName = methodName;
+            this.dependents = dependents;
+        }
+    }
+
+    public static class StringConcat {
+        private final String host = "localhost";
+        private final int port = 8080;
+        private Client client;
+
+        public void run() {
+            var path = "api";
+            client.call("http://" + host + ":" + port + "/" + path + "/v" + 1 + "?limit=" + 100L + "&sort=" + true);
+        }
+    }
+
+    public static class SwitchFork {
+        private Client client;
+
+        public void run() {
+            fork("b");
+        }
+
+        public void fork(String condition) {
+            String value;
+            switch (condition) {
+                case "a":
+                    value = "first";
+                    break;
+                case "b":
+                    value = "second";
+                    break;
+                case "c":
+                    value = "third";
+                    break;
+                default:
+                    value = "default";
+            }
+            client.call(condition != null ? value : "none");
+        }
+    }
+
+    public static class Loop {
+        private Client client;
+
+        public void run() {
+            var builder = new StringBuilder("/items");
+            for (int i = 0; i < 3; i++) {
+                builder.append('/').append(i);
+            }
+            client.call(builder.toString());
+        }
+    }
+
+    public static class Lambda {
+        private final String host = "localhost";
+        private Client client;
+
+        public void run() {
+            Supplier<String> base = () -> "http://" + host;
+            Function<String, String> path = value -> value + "/lambda";
+            client.call(path.apply(base.get()));
+        }
+    }
+
+    public static class Level1 {
+        private final Level2 next;
+
+        public Level1(Level2 next) {
+            this.next = next;
+        }
+
+        public void call1() {
+            next.call2("root");
+        }
+    }
+
+    public static class Level2 {
+        private final Level3 next;
+
+        public Level2(Level3 next) {
+            this.next = next;
+        }
+
+        public void call2(String value) {
+            next.call3(value + "/level2");
+        }
+    }
+
+    public static class Level3 {
+        private Client client;
+
+        public void call3(String value) {
+            client.call(value + "/level3");
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.m4gshm.components.visualizer.eval.bytecode;
+
+import io.github.m4gshm.components.visualizer.eval.result.Result;
+import org.apache.bcel.generic.ObjectType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static io.github.m4gshm.components.visualizer.eval.bytecode.BytecodeCache.newBytecodeCache;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalFixtures.newFixture;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.byName;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.getClassAndMethodSources;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.StringifyResolver.Level.varOnly;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.StringifyResolver.newStringify;
+import static io.github.m4gshm.components.visualizer.eval.result.Result.constant;
+import static io.github.m4gshm.components.visualizer.eval.result.Result.delay;
+import static io.github.m4gshm.components.visualizer.eval.result.Result.multiple;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Equality and hashing cost of results in collapse-like operations: flattening with distinct and hash sets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultBenchmark {
+
+    @Param({"switchFork", "loop"})
+    String fixture;
+
+    @Param({"16", "256"})
+    int size;
+
+    Eval eval;
+    List<Result> results;
+
+    @Setup
+    public void setup() {
+        var data = newFixture(fixture);
+        var bytecodeCache = newBytecodeCache();
+        var classAndMethod = getClassAndMethodSources(data.component.getType(), byName(data.methodName))
+                .findFirst().orElseThrow();
+        var javaClass = classAndMethod.getKey();
+        var method = classAndMethod.getValue();
+        eval = new EvalContextFactoryImpl(Eval.CallCache.noCallCache(), bytecodeCache, c -> List.of(),
+                type -> List.of(), newStringify(varOnly, false), EvalSettings.DEFAULT
+        ).getEvalContext(data.component, javaClass, method);
+
+        var handles = List.of(bytecodeCache.getInstructionList(method).getInstructionHandles());
+        var type = ObjectType.getInstance(String.class.getName());
+        results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            var first = handles.get(i % handles.size());
+            var last = handles.get((i * 7) % handles.size());
+            //every fourth result duplicates another one
+            var value = i % 4 == 0 ? "value" : "value" + i;
+            var constant = constant(value, type, List.of(first), List.of(last), null, eval, List.of());
+            results.add(i % 2 == 0 ? constant : delay("delay" + i, first, last, type, eval, List.of(constant),
+                    (delay, delayEval, resolver) -> constant));
+        }
+    }
+
+    @Benchmark
+    public Result multipleDistinct() {
+        return multiple(results, eval);
+    }
+
+    @Benchmark
+    public Set<Result> hashSet() {
+        return new HashSet<>(results);
+    }
+
+    @Benchmark
+    public List<Result> distinct() {
+        return results.stream().distinct().collect(toList());
+    }
+
+    @Benchmark
+    public int hashCodes() {
+        var hash = 0;
+        for (var result : results) {
+            hash += result.hashCode();
+        }
+        return hash;
+    }
+}
@@ -1,29 +1,34 @@
 package io.github.m4gshm.components.visualizer;
 
+import io.github.m4gshm.components.visualizer.eval.bytecode.CallPointsIndex;
+import io.github.m4gshm.components.visualizer.eval.bytecode.ClassCache;
+import io.github.m4gshm.components.visualizer.eval.bytecode.InvokeIndex;
+import io.github.m4gshm.components.visualizer.eval.bytecode.InvokeIndex.InvokeIndexProvider;
+import io.github.m4gshm.components.visualizer.eval.bytecode.InvokeIndex.InvokeSite;
 import io.github.m4gshm.components.visualizer.model.CallPoint;
-import org.apache.bcel.classfile.BootstrapMethods;
 import org.apache.bcel.classfile.JavaClass;
 import org.apache.bcel.classfile.Method;
-import org.apache.bcel.generic.*;
+import org.apache.bcel.generic.INVOKESTATIC;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
-import static io.github.m4gshm.components.visualizer.client.Utils.getBootstrapMethods;
-import static io.github.m4gshm.components.visualizer.eval.bytecode.InstructionUtils.instructions;
-import static io.github.m4gshm.components.visualizer.eval.bytecode.InvokeDynamicUtils.getInvokeDynamicUsedMethodInfo;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.CallPointsIndex.newCallPointsIndex;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.ClassCache.noClassCache;
 import static java.util.stream.Collectors.toList;
 
 public class CallPointsHelper {
 
-    public static Stream<? extends CallPoint> getMethods(JavaClass javaClass, Class<?> componentType) {
-        var constantPoolGen = new ConstantPoolGen(javaClass.getConstantPool());
+    public static Stream<? extends CallPoint> getMethods(JavaClass javaClass, Class<?> componentType,
+                                                         InvokeIndexProvider invokeIndexProvider) {
         var methods = getMethods(javaClass);
-        return methods != null
-                ? Stream.of(methods).map(method -> newCallPoint(componentType, method, javaClass, constantPoolGen))
-                : Stream.of();
+        if (methods == null) {
+            return Stream.of();
+        }
+        var invokeIndex = invokeIndexProvider.apply(javaClass);
+        return Stream.of(methods).map(method -> newCallPoint(componentType, method, javaClass, invokeIndex));
     }
 
     private static Method[] getMethods(JavaClass javaClass) {
@@ -41,27 +46,10 @@ public class CallPointsHelper {
     }
 
     public static CallPoint newCallPoint(Class<?> componentType, Method method, JavaClass javaClass,
-                                         ConstantPoolGen constantPoolGen) {
-        BootstrapMethods bootstrapMethods;
-        try {
-            bootstrapMethods = getBootstrapMethods(javaClass);
-        } catch (NoClassDefFoundError e) {
-            //log
-            return null;
-        }
-        var instructions = instructions(method).collect(toList());
-        var callPoints = new ArrayList<CallPoint>();
-        for (var handle : instructions) {
-            var instruction = handle.getInstruction();
-            var callPoint = (instruction instanceof INVOKEDYNAMIC)
-                    ? newInvokeDynamicCallPoint(handle, bootstrapMethods, constantPoolGen)
-                    : instruction instanceof INVOKEVIRTUAL || instruction instanceof INVOKEINTERFACE
-                    ? newInvokeCallPoint(handle, (InvokeInstruction) instruction, constantPoolGen)
-                    : null;
-            if (callPoint != null) {
-                callPoints.add(callPoint);
-            }
-        }
+                                         InvokeIndex invokeIndex) {
+        var callPoints = invokeIndex.getInvokes(method).stream()
+                .filter(invoke -> !invoke.isInstanceOf(INVOKESTATIC.class))
+                .map(CallPointsHelper::newCallPoint).collect(toList());
         return CallPoint.builder()
                 .methodName(method.getName())
                 .ownerClass(componentType)
@@ -72,44 +60,44 @@ public class CallPointsHelper {
                 .build();
     }
 
-    private static CallPoint newInvokeDynamicCallPoint(InstructionHandle instructionHandle,
-                                                       BootstrapMethods bootstrapMethods,
-                                                       ConstantPoolGen constantPoolGen) {
-        var instruction = instructionHandle.getInstruction();
-        if (instruction instanceof INVOKEDYNAMIC) {
-            var methodInfo = getInvokeDynamicUsedMethodInfo((INVOKEDYNAMIC) instruction, bootstrapMethods, constantPoolGen);
-            if (methodInfo != null) {
-                var argumentTypes = Type.getArgumentTypes(methodInfo.getSignature());
-                var methodName = methodInfo.getName();
-                var ownerClassName = methodInfo.getClassName();
-                var referenceKind = methodInfo.getReferenceKind();
-                return CallPoint.builder()
-                        .methodName(methodName)
-                        .ownerClassName(ownerClassName)
-                        .argumentTypes(argumentTypes)
-                        .instruction(instructionHandle)
-                        .invokeDynamic(true)
-                        .referenceKind(referenceKind)
-                        .build();
-            }
-        }
-        return null;
-    }
-
-    private static CallPoint newInvokeCallPoint(InstructionHandle instructionHandle, InvokeInstruction instruction,
-                                                ConstantPoolGen constantPoolGen) {
-        var methodName = instruction.getMethodName(constantPoolGen);
-        var argumentTypes = instruction.getArgumentTypes(constantPoolGen);
+    private static CallPoint newCallPoint(InvokeSite invoke) {
+        var invokeDynamic = invoke.isInvokeDynamic();
         return CallPoint.builder()
-                .methodName(methodName)
-                .ownerClassName(instruction.getClassName(constantPoolGen))
-                .argumentTypes(argumentTypes)
-                .instruction(instructionHandle)
+                .methodName(invoke.getMethodName())
+                .ownerClassName(invoke.getOwnerClassName())
+                .argumentTypes(invoke.getArgumentTypes())
+                .instruction(invoke.getHandle())
+                .invokeDynamic(invokeDynamic)
+                .referenceKind(invoke.getReferenceKind())
                 .build();
     }
 
-    public interface CallPointsProvider extends Function<Class<?>, List<CallPoint>> {
+    /**
+     * Caches the call points index of each component type.
+     */
+    public static CallPointsProvider newIndexedCallPointsProvider(Function<Class<?>, List<CallPoint>> callPoints,
+                                                                  ClassCache classCache) {
+        var indexes = new ConcurrentHashMap<Class<?>, CallPointsIndex>();
+        return new CallPointsProvider() {
+            @Override
+            public List<CallPoint> apply(Class<?> componentType) {
+                return callPoints.apply(componentType);
+            }
+
+            @Override
+            public CallPointsIndex getCallPointsIndex(Class<?> componentType) {
+                return indexes.computeIfAbsent(componentType, type -> newCallPointsIndex(apply(type), classCache));
+            }
+        };
+    }
 
+    public interface CallPointsProvider extends Function<Class<?>, List<CallPoint>> {
+        /**
+         * @return the index of the component type call points, not cached by default
+         */
+        default CallPointsIndex getCallPointsIndex(Class<?> componentType) {
+            return newCallPointsIndex(apply(componentType), noClassCache());
+        }
     }
 
 }
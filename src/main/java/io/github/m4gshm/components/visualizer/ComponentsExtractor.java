@@ -2,8 +2,11 @@ package io.github.m4gshm.components.visualizer;
 
 import io.github.m4gshm.components.visualizer.CallPointsHelper.CallPointsProvider;
 import io.github.m4gshm.components.visualizer.ComponentsExtractor.Options.BeanFilter;
+import io.github.m4gshm.components.visualizer.ExtractionListener.Extractor;
+import io.github.m4gshm.components.visualizer.ExtractionListener.Phase;
 import io.github.m4gshm.components.visualizer.eval.bytecode.*;
 import io.github.m4gshm.components.visualizer.eval.bytecode.EvalContextFactoryImpl.DependentProvider;
+import io.github.m4gshm.components.visualizer.eval.bytecode.InvokeIndex.InvokeIndexProvider;
 import io.github.m4gshm.components.visualizer.eval.result.Resolver;
 import io.github.m4gshm.components.visualizer.eval.result.Result;
 import io.github.m4gshm.components.visualizer.eval.result.Result.RelationsAware;
@@ -21,6 +24,7 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.support.JpaMetamodelEntityInformation;
 import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
 import org.springframework.data.repository.Repository;
@@ -35,24 +39,42 @@ import org.springframework.web.socket.config.annotation.WebSocketConfigurationSu
 import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
 import org.springframework.web.socket.server.support.WebSocketHttpRequestHandler;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 import static io.github.m4gshm.components.visualizer.CallPointsHelper.getMethods;
 import static io.github.m4gshm.components.visualizer.CallPointsHelper.isObject;
+import static io.github.m4gshm.components.visualizer.CallPointsHelper.newIndexedCallPointsProvider;
 import static io.github.m4gshm.components.visualizer.ComponentsExtractorUtils.*;
+import static io.github.m4gshm.components.visualizer.ExtractionListener.noExtractionListener;
+import static io.github.m4gshm.components.visualizer.InterfacesCache.newFileInterfacesCache;
+import static io.github.m4gshm.components.visualizer.InterfacesCache.noInterfacesCache;
 import static io.github.m4gshm.components.visualizer.UriUtils.joinURI;
 import static io.github.m4gshm.components.visualizer.Utils.*;
+import static io.github.m4gshm.components.visualizer.VirtualThreads.newVirtualThreadPerTaskExecutor;
 import static io.github.m4gshm.components.visualizer.client.JmsOperationsUtils.extractJmsClients;
 import static io.github.m4gshm.components.visualizer.client.RestOperationsUtils.extractRestOperationsUris;
 import static io.github.m4gshm.components.visualizer.client.WebsocketClientUtils.extractWebsocketClientUris;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.BytecodeCache.newBytecodeCache;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.Eval.CallCache.newBoundedCallCache;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.Eval.CallCache.newCallCache;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.getClassSources;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.InvokeIndex.InvokeIndexProvider.newInvokeIndexCache;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.StringifyResolver.Level.varOnly;
 import static io.github.m4gshm.components.visualizer.model.Component.ComponentKey.newComponentKey;
 import static io.github.m4gshm.components.visualizer.model.Interface.Call.external;
@@ -66,6 +88,10 @@ import static java.util.Arrays.stream;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.Map.entry;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.anyOf;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.function.UnaryOperator.identity;
 import static java.util.stream.Collectors.*;
 import static java.util.stream.Stream.*;
@@ -90,6 +116,7 @@ public class ComponentsExtractor {
 
     private final Options options;
     private final ConfigurableListableBeanFactory beanFactory;
+    private final InterfacesCache interfacesCache;
 
     public ComponentsExtractor(ConfigurableApplicationContext context, Options options) {
         this(context.getBeanFactory(), options);
@@ -98,6 +125,16 @@ public class ComponentsExtractor {
     public ComponentsExtractor(ConfigurableListableBeanFactory beanFactory, Options options) {
         this.beanFactory = beanFactory;
         this.options = options != null ? options : Options.DEFAULT;
+        var cacheDirectory = this.options.getCacheDirectory();
+        this.interfacesCache = cacheDirectory != null ? newFileInterfacesCache(cacheDirectory,
+                getEnvironmentKey(beanFactory), !this.options.isIncludeUnusedOutInterfaces()) : noInterfacesCache();
+    }
+
+    private static String getEnvironmentKey(ConfigurableListableBeanFactory beanFactory) {
+        var environmentBeanName = ConfigurableApplicationContext.ENVIRONMENT_BEAN_NAME;
+        return beanFactory.containsBean(environmentBeanName)
+                ? FileInterfacesCache.getEnvironmentKey(beanFactory.getBean(environmentBeanName, Environment.class))
+                : null;
     }
 
     private static List<Interface> getOutFeignHttpInterfaces(FeignClient feignClient) {
@@ -217,19 +254,33 @@ public class ComponentsExtractor {
         return c -> dependencyToDependentWitInterfacesMap.getOrDefault(c, List.of());
     }
 
-    private static List<CallPoint> getCallPoints(Class<?> componentType, Map<Class<?>, List<CallPoint>> callPointsCache) {
-        if (callPointsCache.containsKey(componentType)) {
-            return callPointsCache.get(componentType);
-        }
-        return getCallPoint(componentType, callPointsCache);
+    private static List<CallPoint> getCallPoints(Class<?> componentType, Map<Class<?>, List<CallPoint>> callPointsCache,
+                                                 ClassSourceRepository classSourceRepository,
+                                                 InvokeIndexProvider invokeIndexProvider) {
+        return callPointsCache.computeIfAbsent(componentType, type -> getCallPoint(type, classSourceRepository,
+                invokeIndexProvider));
     }
 
-    private static List<CallPoint> getCallPoint(Class<?> componentType, Map<Class<?>, List<CallPoint>> callPointsCache) {
-        var javaClasses = getClassSources(componentType);
-        List<CallPoint> points = javaClasses.stream().filter(javaClass -> !isObject(javaClass)
-        ).flatMap(javaClass -> getMethods(javaClass, componentType)).filter(Objects::nonNull).collect(toList());
-        callPointsCache.put(componentType, points);
-        return points;
+    private static List<CallPoint> getCallPoint(Class<?> componentType, ClassSourceRepository classSourceRepository,
+                                                InvokeIndexProvider invokeIndexProvider) {
+        var javaClasses = getClassSources(componentType, classSourceRepository);
+        return javaClasses.stream().filter(javaClass -> !isObject(javaClass)
+        ).flatMap(javaClass -> getMethods(javaClass, componentType, invokeIndexProvider)
+        ).filter(Objects::nonNull).collect(toList());
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
     }
 
     private static LinkedHashSet<CharSequence> namesForLog(Collection<Interface> interfaces) {
@@ -290,6 +341,63 @@ public class ComponentsExtractor {
     }
 
     public Components getComponents(Class<?>... rootPackageClasses) {
+        return getComponents(getComponentsPerKey(rootPackageClasses), Map.of());
+    }
+
+    /**
+     * Extracts the interfaces of components affected by the changed classes only, the interfaces of other components
+     * are taken from the previous extraction.
+     * A component is affected if its type, a super type or a nested class of it is changed, if it calls an affected
+     * component (per {@link #getDependencyToDependentMap(Collection)}), or if it is a direct or indirect dependency of
+     * such component, because its arguments are resolved through the callers.
+     *
+     * @param previous           result of a previous extraction by this extractor
+     * @param changed            changed classes
+     * @param rootPackageClasses root package classes like in {@link #getComponents(Class[])}
+     */
+    public Components update(Components previous, Set<Class<?>> changed, Class<?>... rootPackageClasses) {
+        var componentsPerKey = getComponentsPerKey(rootPackageClasses);
+        var components = componentsPerKey.values();
+        var previousComponents = previous.getComponents().stream().collect(toMap(ComponentKey::newComponentKey,
+                identity(), warnDuplicated(), LinkedHashMap::new));
+        var affected = getAffectedComponents(components, changed);
+        var reused = components.stream().filter(component -> !affected.contains(component))
+                .map(component -> previousComponents.get(newComponentKey(component))).filter(Objects::nonNull)
+                .collect(toMap(ComponentKey::newComponentKey, identity(), warnDuplicated(), LinkedHashMap::new));
+        log.info("update components: extract {}, reuse {}", components.size() - reused.size(), reused.size());
+        return getComponents(componentsPerKey, reused);
+    }
+
+    private static Set<Component> getAffectedComponents(Collection<Component> components, Set<Class<?>> changed) {
+        var dependencyToDependent = getDependencyToDependentMap(components);
+        var changedComponents = components.stream().filter(component -> isChanged(component.getType(), changed))
+                .collect(toList());
+        var affectedDependents = getTransitive(changedComponents,
+                component -> dependencyToDependent.getOrDefault(component, List.of()));
+        return getTransitive(affectedDependents,
+                component -> Optional.ofNullable(component.getDependencies()).orElse(Set.of()));
+    }
+
+    private static Set<Component> getTransitive(Collection<Component> components,
+                                                Function<Component, Collection<Component>> related) {
+        var result = new LinkedHashSet<Component>();
+        var queue = new ArrayDeque<>(components);
+        while (!queue.isEmpty()) {
+            var component = queue.poll();
+            if (result.add(component)) {
+                queue.addAll(related.apply(component));
+            }
+        }
+        return result;
+    }
+
+    private static boolean isChanged(Class<?> type, Set<Class<?>> changed) {
+        var nestedPrefix = type.getName() + "$";
+        return changed.stream().anyMatch(changedClass -> changedClass.isAssignableFrom(type)
+                || changedClass.getName().startsWith(nestedPrefix));
+    }
+
+    private Map<ComponentKey, Component> getComponentsPerKey(Class<?>... rootPackageClasses) {
         var exclude = Optional.ofNullable(this.options).map(Options::getExclude);
         var excludeNames = exclude.map(BeanFilter::getBeanName).orElse(Set.of());
         var excludeTypes = exclude.map(BeanFilter::getType).orElse(Set.of());
@@ -298,6 +406,7 @@ public class ComponentsExtractor {
 
         var beanFactory = this.beanFactory;
 
+        var beanScanStart = System.nanoTime();
         var beanInfoMap = filter(stream(beanFactory.getBeanDefinitionNames()).map(name -> {
             var bean = beanFactory.getBean(name);
             var type = beanFactory.getType(name);
@@ -310,6 +419,7 @@ public class ComponentsExtractor {
             return new BeanInfo(name, type, bean);
         }), excludeNames, excludePackages, excludeTypes, filter).collect(toMap(BeanInfo::getName, e -> e,
                 warnDuplicated(), LinkedHashMap::new));
+        var componentGraphStart = onPhase(Phase.beanScan, beanScanStart);
 
         var rootPackageNames = (rootPackageClasses.length > 0
                 ? stream(rootPackageClasses)
@@ -332,45 +442,198 @@ public class ComponentsExtractor {
             return websocketHandlers.stream();
         }).collect(toList());
 
-        var componentsPerName = mergeComponents(rootComponents, additionalComponents);
-        var components = componentsPerName.values();
+        var componentsPerKey = mergeComponents(rootComponents, additionalComponents);
+        onPhase(Phase.componentGraph, componentGraphStart);
+        return componentsPerKey;
+    }
 
-//        var evalCache = new ConcurrentHashMap<EvalContextFactoryCacheImpl.Key, Eval>();
-        var callCache = newCallCache();/*noCallCache();*/
+    private Components getComponents(Map<ComponentKey, Component> componentsPerName,
+                                     Map<ComponentKey, Component> reused) {
+        var components = componentsPerName.values();
+        var extractable = components.stream().filter(component -> !reused.containsKey(newComponentKey(component)))
+                .collect(toList());
 
-        var resolver = StringifyResolver.newStringify(options.getStringifyLevel(), options.isFailFast());
+        var classSourceRepository = newClassSourceRepository();
+        var virtualExecutor = newVirtualExecutor();
+        try {
+//            var evalCache = new ConcurrentHashMap<EvalContextFactoryCacheImpl.Key, Eval>();
+            var callCacheSize = options.getCallCacheSize();
+            var callCache = callCacheSize >= 0
+                    ? newBoundedCallCache(callCacheSize, options.isCallCacheWeighted())
+                    : newCallCache();/*noCallCache();*/
+
+            var resolver = StringifyResolver.newStringify(options.getStringifyLevel(), options.isFailFast());
+
+            var dependentProvider = newDependentProvider(getDependencyToDependentMap(components));
+            var bytecodeCache = newBytecodeCache();
+            var invokeIndexProvider = newInvokeIndexCache(bytecodeCache);
+            var callPointsCache = new ConcurrentHashMap<Class<?>, List<CallPoint>>();
+            var callPointsProvider = newIndexedCallPointsProvider(componentType -> getCallPoints(componentType,
+                    callPointsCache, classSourceRepository, invokeIndexProvider), bytecodeCache.getClassCache());
+
+            var evalSettings = EvalSettings.builder()
+                    .memoize(options.isMemoizeEval())
+                    .variantsLimit(new VariantsLimit(options.getArgumentVariantsLimit(),
+                            options.getListener()::onArgumentVariantsTruncated))
+                    .budgetLimits(new EvalBudget.Limits(options.getEvalInstructionsBudget(),
+                            options.getEvalTimeBudget(), options.getListener()::onEvalBudgetExceeded))
+                    .argumentsExecutor(options.getArgumentsExecutor() != null
+                            ? options.getArgumentsExecutor() : virtualExecutor)
+                    .build();
+            var evalContextFactory = new EvalContextFactoryCacheImpl(callCache, bytecodeCache, dependentProvider,
+                    callPointsProvider, resolver, evalSettings);
+
+            var populateStart = System.nanoTime();
+            var componentsExecutor = options.getExecutor() != null ? options.getExecutor() : virtualExecutor;
+            var componentsWithInterfaces = populateInterfaces(extractable, evalContextFactory, dependentProvider,
+                    classSourceRepository, invokeIndexProvider, resolver, componentsExecutor);
+            var filterStart = onPhase(Phase.populateInterfaces, populateStart);
+
+            var componentWithInterfacesMap = concat(componentsWithInterfaces.stream(), reused.values().stream())
+                    .collect(toMap(ComponentKey::newComponentKey, identity(), warnDuplicated(), LinkedHashMap::new));
+
+            var usedComponentsWithInterfaces = componentsWithInterfaces.stream(
+            ).peek(ComponentsExtractor::logInterfaces
+            ).map(component -> !options.isIncludeUnusedOutInterfaces() ?
+                    filterUnusedInterfaces(component, componentWithInterfacesMap::get, dependentProvider, callPointsProvider)
+                    : component
+            ).collect(toList());
+            var removeDuplicatedStart = onPhase(Phase.filterUnusedInterfaces, filterStart);
+
+            var uniqueComponentsWithInterfaces = usedComponentsWithInterfaces.stream(
+            ).map(ComponentsExtractor::removeDuplicatedInterfaces).collect(toList());
+            onPhase(Phase.removeDuplicatedInterfaces, removeDuplicatedStart);
+
+            var filteredComponentsWithInterfaces = uniqueComponentsWithInterfaces.stream(
+            ).map(component -> options.isIgnoreNotFoundDependencies()
+                    ? getComponentWithFilteredDependencies(component, componentsPerName)
+                    : component
+            ).map(options.customizer).collect(toList()).iterator();
+
+            //keeps the source order of reused and extracted components
+            var result = components.stream().map(component -> {
+                var reusedComponent = reused.get(newComponentKey(component));
+                return reusedComponent != null ? reusedComponent : filteredComponentsWithInterfaces.next();
+            }).collect(toLinkedHashSet());
+
+            var callCacheStats = callCache.getStats();
+            log.debug("call cache stats: {}", callCacheStats);
+            options.getListener().onCacheStats(callCacheStats, evalContextFactory.getHitCount(),
+                    evalContextFactory.getMissCount());
+            return Components.builder().components(result).build();
+        } finally {
+            if (virtualExecutor != null) {
+                //the class sources are cleared only after the last task stops reading them
+                shutdownAndAwait(virtualExecutor);
+            }
+            log.debug("class sources repository stats: size {}, {}", classSourceRepository.size(),
+                    classSourceRepository.getStats());
+            classSourceRepository.clear();
+        }
+    }
 
-        var dependentProvider = newDependentProvider(getDependencyToDependentMap(components));
-        var callPointsCache = new HashMap<Class<?>, List<CallPoint>>();
-        var callPointsProvider = (CallPointsProvider) componentType -> getCallPoints(componentType, callPointsCache);
+    private static void shutdownAndAwait(ExecutorService executor) {
+        executor.shutdownNow();
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.warn("waiting for termination of extraction tasks");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-        var evalContextFactory = new EvalContextFactoryCacheImpl(callCache, dependentProvider, callPointsProvider,
-                resolver);
+    private ExecutorService newVirtualExecutor() {
+        if (!options.isVirtualThreads() || options.getExecutor() != null && options.getArgumentsExecutor() != null) {
+            return null;
+        }
+        var executor = newVirtualThreadPerTaskExecutor();
+        if (executor == null) {
+            log.warn("virtual threads are not supported by the runtime, the option is ignored");
+        }
+        return executor;
+    }
 
-        var componentsWithInterfaces = components.stream().map(component -> {
-            return populateInterfaces(component, evalContextFactory, resolver);
-        }).collect(toList());
+    /**
+     * Notifies the listener about the finished phase.
+     *
+     * @return the finish time in nanoseconds
+     */
+    private long onPhase(Phase phase, long start) {
+        var finish = System.nanoTime();
+        options.getListener().onPhase(phase, Duration.ofNanos(finish - start));
+        return finish;
+    }
 
-        var componentWithInterfacesMap = componentsWithInterfaces.stream().collect(toMap(ComponentKey::newComponentKey,
-                identity(), warnDuplicated(), LinkedHashMap::new));
+    private <T> T timed(Component component, Extractor extractor, Supplier<T> supplier) {
+        var start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            options.getListener().onExtractor(component, extractor, Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
 
-        var filteredComponentsWithInterfaces = componentsWithInterfaces.stream(
-        ).peek(ComponentsExtractor::logInterfaces
-        ).map(component -> !options.isIncludeUnusedOutInterfaces() ?
-                filterUnusedInterfaces(component, componentWithInterfacesMap::get, dependentProvider, callPointsProvider)
-                : component
-        ).map(ComponentsExtractor::removeDuplicatedInterfaces).map(component -> options.isIgnoreNotFoundDependencies()
-                ? getComponentWithFilteredDependencies(component, componentsPerName)
-                : component
-        ).map(options.customizer).collect(toLinkedHashSet());
+    protected ClassSourceRepository newClassSourceRepository() {
+        return ClassSourceRepository.newClassSourceRepository(options.getClassSourceCacheSize());
+    }
 
-        return Components.builder().components(filteredComponentsWithInterfaces).build();
+    private List<Component> populateInterfaces(Collection<Component> components, EvalContextFactory evalContextFactory,
+                                              DependentProvider dependentProvider,
+                                              ClassSourceRepository classSourceRepository,
+                                              InvokeIndexProvider invokeIndexProvider, StringifyResolver resolver,
+                                              Executor executor) {
+        var parallelism = options.getParallelism();
+        if (executor == null && parallelism <= 1) {
+            return components.stream().map(component -> {
+                return populateInterfaces(component, evalContextFactory, dependentProvider, classSourceRepository,
+                        invokeIndexProvider, resolver);
+            }).collect(toList());
+        }
+        var ownExecutor = executor == null ? newFixedThreadPool(parallelism) : null;
+        try {
+            var cancelled = new AtomicBoolean();
+            var futures = components.stream().map(component -> supplyAsync(() -> {
+                if (cancelled.get()) {
+                    throw new CancellationException();
+                }
+                return populateInterfaces(component, evalContextFactory, dependentProvider, classSourceRepository,
+                        invokeIndexProvider, resolver);
+            }, executor != null ? executor : ownExecutor)).collect(toList());
+            //the first failure cancels the rest components without waiting for the previous ones
+            var failed = new CompletableFuture<Void>();
+            futures.forEach(future -> future.whenComplete((r, e) -> {
+                if (e != null) {
+                    failed.completeExceptionally(e);
+                }
+            }));
+            try {
+                join(anyOf(allOf(futures.toArray(CompletableFuture[]::new)), failed));
+                //joins in the source order to keep the result deterministic
+                return futures.stream().map(ComponentsExtractor::join).collect(toList());
+            } catch (RuntimeException | Error e) {
+                //running tasks are not interruptible, they are awaited to not outlive the shared extraction state
+                cancelled.set(true);
+                allOf(futures.toArray(CompletableFuture[]::new)).handle((r, ee) -> null).join();
+                throw e;
+            }
+        } finally {
+            if (ownExecutor != null) {
+                shutdownAndAwait(ownExecutor);
+            }
+        }
     }
 
     private Component populateInterfaces(Component component, EvalContextFactory evalContextFactory,
-                                         StringifyResolver resolver) {
+                                         DependentProvider dependentProvider,
+                                         ClassSourceRepository classSourceRepository,
+                                         InvokeIndexProvider invokeIndexProvider, StringifyResolver resolver) {
+        var start = System.nanoTime();
         var exists = component.getInterfaces();
-        var interfaces = getInterfaces(component, evalContextFactory, resolver);
+        var interfaces = interfacesCache.get(component, dependentProvider, classSourceRepository,
+                () -> getInterfaces(component, evalContextFactory, classSourceRepository, invokeIndexProvider,
+                        resolver));
+        options.getListener().onComponent(component, Duration.ofNanos(System.nanoTime() - start));
         if (exists == null) {
             exists = interfaces;
         } else if (interfaces != null && !interfaces.isEmpty()) {
@@ -441,12 +704,15 @@ public class ComponentsExtractor {
         }
     }
 
-    private List<Interface> getInterfaces(Component component, EvalContextFactory evalContextFactory, Resolver resolver) {
+    private List<Interface> getInterfaces(Component component, EvalContextFactory evalContextFactory,
+                                          ClassSourceRepository classSourceRepository,
+                                          InvokeIndexProvider invokeIndexProvider, Resolver resolver) {
         var componentName = component.getName();
         var componentType = component.getType();
         var dependencies = component.getDependencies();
-        var scheduledMethods = extractScheduledMethods(component, componentType, options.timeUnitStringifier,
-                evalContextFactory, resolver).stream()
+        var scheduledMethods = timed(component, Extractor.scheduler, () -> extractScheduledMethods(component,
+                componentType, options.timeUnitStringifier, evalContextFactory, classSourceRepository,
+                invokeIndexProvider, resolver)).stream()
                 .map(scheduledMethod -> Interface.builder().direction(internal).type(scheduler)
                         .core(scheduledMethod)
                         .call(scheduled)
@@ -455,20 +721,24 @@ public class ComponentsExtractor {
                         .build())
                 .collect(toList());
 
-        var inJmsInterface = extractMethodJmsListeners(componentType, beanFactory).stream()
+        var inJmsInterface = timed(component, Extractor.jmsListener, () -> extractMethodJmsListeners(componentType,
+                beanFactory)).stream()
                 .map(jmsService -> newJmsInterfaceBuilder(jmsService).call(external).build()).collect(toList());
-        var inHttpInterfaces = extractControllerHttpMethods(componentType).stream()
+        var inHttpInterfaces = timed(component, Extractor.httpController, () -> extractControllerHttpMethods(
+                componentType)).stream()
                 .map(httpMethod -> Interface.builder().direction(in).type(http).core(httpMethod).call(external).build())
                 .collect(toList());
 
-        var repositoryEntityInterfaces = getRepositoryEntityInterfaces(componentName, componentType);
-        var outJmsInterfaces = getOutJmsInterfaces(component, componentName, dependencies,
-                evalContextFactory, resolver);
-        var outWsInterfaces = getOutWsInterfaces(component, componentName, dependencies,
-                evalContextFactory, resolver);
+        var repositoryEntityInterfaces = timed(component, Extractor.repository, () -> getRepositoryEntityInterfaces(
+                componentName, componentType));
+        var outJmsInterfaces = timed(component, Extractor.jmsClient, () -> getOutJmsInterfaces(component, componentName,
+                dependencies, evalContextFactory, classSourceRepository, invokeIndexProvider, resolver));
+        var outWsInterfaces = timed(component, Extractor.wsClient, () -> getOutWsInterfaces(component, componentName,
+                dependencies, evalContextFactory, classSourceRepository, invokeIndexProvider, resolver));
 
-        var outRestOperationsHttpInterface = getOutRestTemplateInterfaces(component, componentName,
-                dependencies, evalContextFactory, resolver);
+        var outRestOperationsHttpInterface = timed(component, Extractor.restOperations, () ->
+                getOutRestTemplateInterfaces(component, componentName, dependencies, evalContextFactory,
+                        classSourceRepository, invokeIndexProvider, resolver));
 
         return of(
                 scheduledMethods.stream(),
@@ -563,10 +833,13 @@ public class ComponentsExtractor {
 
     protected List<Interface> getOutJmsInterfaces(Component component, String componentName,
                                                   Collection<Component> dependencies,
-                                                  EvalContextFactory evalContextFactory, Resolver resolver) {
+                                                  EvalContextFactory evalContextFactory,
+                                                  ClassSourceRepository classSourceRepository,
+                                                  InvokeIndexProvider invokeIndexProvider, Resolver resolver) {
         var jmsTemplate = findDependencyByType(dependencies, () -> JmsOperations.class);
         if (jmsTemplate != null) try {
-            var jmsClients = extractJmsClients(component, evalContextFactory, resolver);
+            var jmsClients = extractJmsClients(component, evalContextFactory, classSourceRepository,
+                    invokeIndexProvider, resolver, options.isFailFast());
             return jmsClients.stream().map(jmsClient -> newJmsInterfaceBuilder(jmsClient).build()).collect(toList());
         } catch (EvalException e) {
             handleError("jms client getting error, component", componentName, e, options.isFailFast());
@@ -576,10 +849,13 @@ public class ComponentsExtractor {
 
     protected List<Interface> getOutWsInterfaces(Component component, String componentName,
                                                  Collection<Component> dependencies,
-                                                 EvalContextFactory evalContextFactory, Resolver resolver) {
+                                                 EvalContextFactory evalContextFactory,
+                                                 ClassSourceRepository classSourceRepository,
+                                                 InvokeIndexProvider invokeIndexProvider, Resolver resolver) {
         var wsClient = findDependencyByType(dependencies, () -> WebSocketClient.class);
         if (wsClient != null) try {
-            var wsClientUris = extractWebsocketClientUris(component, evalContextFactory, resolver);
+            var wsClientUris = extractWebsocketClientUris(component, evalContextFactory, classSourceRepository,
+                    invokeIndexProvider, resolver, options.isFailFast());
             return wsClientUris.stream()
                     .map(uri -> Interface.builder()
                             .direction(out).type(ws).name(uri)
@@ -594,11 +870,13 @@ public class ComponentsExtractor {
 
     protected List<Interface> getOutRestTemplateInterfaces(
             Component component, String componentName, Collection<Component> dependencies,
-            EvalContextFactory evalContextFactory, Resolver resolver
+            EvalContextFactory evalContextFactory, ClassSourceRepository classSourceRepository,
+            InvokeIndexProvider invokeIndexProvider, Resolver resolver
     ) {
         var restTemplate = findDependencyByType(dependencies, () -> RestOperations.class);
         if (restTemplate != null) try {
-            var httpMethods = extractRestOperationsUris(component, evalContextFactory, resolver);
+            var httpMethods = extractRestOperationsUris(component, evalContextFactory, classSourceRepository,
+                    invokeIndexProvider, resolver, options.isFailFast());
             return httpMethods.stream()
                     .map(httpMethod -> Interface.builder()
                             .direction(out).type(http)
@@ -790,6 +1068,12 @@ public class ComponentsExtractor {
 
     }
 
+    /**
+     * Extraction options.
+     * The bytecode cache of an extraction (decoded method instructions, constant pools and invoke trees) has no size
+     * limit. Its entries are dropped only when the parsed classes are no longer referenced, and the whole cache is
+     * released when the extraction ends.
+     */
     @Data
     @Builder(toBuilder = true)
     @FieldDefaults(makeFinal = true, level = PRIVATE)
@@ -826,6 +1110,75 @@ public class ComponentsExtractor {
         StringifyResolver.Level stringifyLevel = varOnly;
         @Builder.Default
         UnaryOperator<Component> customizer = component -> component;
+        /**
+         * Executor of components interfaces extraction. If null and parallelism is greater than 1, a fixed thread pool
+         * is created for each extraction.
+         */
+        Executor executor;
+        @Builder.Default
+        int parallelism = 1;
+        /**
+         * Runs each component and call point evaluation in its own virtual thread if the runtime supports them
+         * (Java 21+), otherwise the option is ignored. The explicitly set executors are not replaced.
+         */
+        boolean virtualThreads;
+        /**
+         * Max amount of recently parsed classes kept by the class sources repository of an extraction, not bounded if
+         * negative. It does not bound the memory of an extraction: the classes referenced by the invoke indexes and
+         * call points are kept until the extraction ends, an evicted class is parsed again only if it is not referenced.
+         */
+        @Builder.Default
+        long classSourceCacheSize = 5_000;
+        /**
+         * Max amount of cached method call results with least recently used eviction, not bounded if negative.
+         * An evicted result is evaluated again, so a small size slows down the extraction.
+         */
+        @Builder.Default
+        long callCacheSize = -1;
+        /**
+         * If true, the call cache size limits the total amount of cached call parameter values instead of calls.
+         */
+        boolean callCacheWeighted;
+        /**
+         * Keeps instruction evaluation results per eval context and arguments variant. Speeds up methods with dense
+         * call chains at the cost of memory.
+         */
+        boolean memoizeEval;
+        /**
+         * Max amount of argument variants enumerated per one call or evaluated method, not limited if negative.
+         * Cut off variants are reported to the listener.
+         */
+        @Builder.Default
+        int argumentVariantsLimit = -1;
+        /**
+         * Max amount of evaluated instructions per method, not limited if negative. Once exceeded, the remaining
+         * calls of the method are resolved as unresolved placeholders and the method is reported to the listener.
+         * The exceeded budget fails the extraction if {@link #failFast} is set.
+         */
+        @Builder.Default
+        long evalInstructionsBudget = -1;
+        /**
+         * Max accumulated evaluation time per method, not limited if null. Works like the instructions budget.
+         */
+        Duration evalTimeBudget;
+        /**
+         * Executor of call points arguments evaluation, the evaluation is sequential if null. May be the same as the
+         * components executor, a waiting thread evaluates not started call points by itself.
+         */
+        Executor argumentsExecutor;
+        /**
+         * Directory of the persistent components interfaces cache. The cache is not used if null.
+         * A component is reused while its class files, the class files of its transitive dependencies and
+         * dependents, and the application properties are not changed. Other bean state is not tracked, so the cache
+         * must be cleared if the interfaces depend on it. Components with evaluated interfaces are not cached if
+         * the unused interfaces are excluded.
+         */
+        Path cacheDirectory;
+        /**
+         * Receives timings of extraction phases, components and interfaces extractors.
+         */
+        @Builder.Default
+        ExtractionListener listener = noExtractionListener();
 
         @Data
         @Builder
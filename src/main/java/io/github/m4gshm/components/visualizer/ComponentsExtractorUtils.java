@@ -7,8 +7,10 @@ import io.github.m4gshm.components.visualizer.ComponentsExtractor.FeignClient;
 import io.github.m4gshm.components.visualizer.ComponentsExtractor.JmsService;
 import io.github.m4gshm.components.visualizer.ComponentsExtractor.ScheduledMethod;
 import io.github.m4gshm.components.visualizer.client.SchedulingConfigurerUtils;
+import io.github.m4gshm.components.visualizer.eval.bytecode.ClassSourceRepository;
 import io.github.m4gshm.components.visualizer.eval.bytecode.EvalContextFactory;
 import io.github.m4gshm.components.visualizer.eval.bytecode.EvalException;
+import io.github.m4gshm.components.visualizer.eval.bytecode.InvokeIndex.InvokeIndexProvider;
 import io.github.m4gshm.components.visualizer.eval.result.Resolver;
 import io.github.m4gshm.components.visualizer.model.Component;
 import io.github.m4gshm.components.visualizer.model.Component.ComponentKey;
@@ -185,10 +187,13 @@ public class ComponentsExtractorUtils {
     public static List<ScheduledMethod> extractScheduledMethods(Component component, Class<?> componentType,
                                                                 Function<TimeUnit, String> timeUnitStringifier,
                                                                 EvalContextFactory evalContextFactory,
+                                                                ClassSourceRepository classSourceRepository,
+                                                                InvokeIndexProvider invokeIndexProvider,
                                                                 Resolver resolver) {
 
         var scheduledByConfigurerMethods = SchedulingConfigurerUtils.getScheduledByConfigurerMethods(component,
-                componentType, timeUnitStringifier, evalContextFactory, resolver);
+                componentType, timeUnitStringifier, evalContextFactory, classSourceRepository,
+                invokeIndexProvider, resolver);
         var scheduledByAnnotationMethods = getScheduledByAnnotationMethods(component.getName(), componentType, timeUnitStringifier);
         return Stream.concat(scheduledByConfigurerMethods.stream(), scheduledByAnnotationMethods.stream()).collect(toList());
     }
@@ -264,17 +269,14 @@ public class ComponentsExtractorUtils {
     }
 
     public static Field getDeclaredField(Class<?> type, String name) {
-        while (!(type == null || Object.class.equals(type))) try {
-            return type.getDeclaredField(name);
-        } catch (NoSuchFieldException e) {
-            type = type.getSuperclass();
-        }
-        return null;
+        return ReflectionCache.getField(type, name);
     }
 
     @SneakyThrows
     public static Object invokeMethod(Object object, String name, Class<?>... argumentTypes) {
-        return getDeclaredMethod(object.getClass(), name, argumentTypes).invoke(object);
+        var method = getDeclaredMethod(object.getClass(), name, argumentTypes);
+        ReflectionCache.trySetAccessible(method);
+        return method.invoke(object);
     }
 
     public static Object getFieldValue(Object object, String name) {
@@ -292,7 +294,7 @@ public class ComponentsExtractorUtils {
 
     public static Object getFieldValue(Object object, Field field, boolean throwException) {
         try {
-            field.setAccessible(true);
+            ReflectionCache.trySetAccessible(field);
             return field.get(object);
         } catch (Exception e) {
             if (throwException) {
@@ -304,15 +306,7 @@ public class ComponentsExtractorUtils {
     }
 
     public static Method getDeclaredMethod(Class<?> type, String name, Class<?>[] argumentTypes) {
-        var current = type;
-        while (!(current == null || Object.class.equals(current))) try {
-            return current.getDeclaredMethod(name, argumentTypes);
-        } catch (NoSuchMethodException e) {
-            current = type.getSuperclass();
-        }
-        return Optional.ofNullable(type).map(Class::getInterfaces).stream().flatMap(Arrays::stream).map(iface -> {
-            return getDeclaredMethod(iface, name, argumentTypes);
-        }).filter(Objects::nonNull).findFirst().orElse(null);
+        return ReflectionCache.getMethod(type, name, argumentTypes);
     }
 
     public static Interface.InterfaceBuilder newJmsInterfaceBuilder(JmsService jmsService) {
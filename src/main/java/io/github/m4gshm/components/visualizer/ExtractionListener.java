@@ -0,0 +1,77 @@
+package io.github.m4gshm.components.visualizer;
+
+import io.github.m4gshm.components.visualizer.eval.bytecode.Eval.CallCache;
+import io.github.m4gshm.components.visualizer.model.Component;
+import org.apache.bcel.classfile.Method;
+
+import java.time.Duration;
+
+/**
+ * Receives timings of the components extraction. Component and extractor events can be sent concurrently if the
+ * extraction is parallel.
+ */
+public interface ExtractionListener {
+
+    static ExtractionListener noExtractionListener() {
+        return new ExtractionListener() {
+        };
+    }
+
+    /**
+     * Called once a phase of the {@link ComponentsExtractor#getComponents(Class[])} is finished.
+     */
+    default void onPhase(Phase phase, Duration duration) {
+    }
+
+    /**
+     * Called once all interfaces of the component are extracted or loaded from the interfaces cache.
+     */
+    default void onComponent(Component component, Duration duration) {
+    }
+
+    /**
+     * Called once an interfaces extractor of the component is finished.
+     */
+    default void onExtractor(Component component, Extractor extractor, Duration duration) {
+    }
+
+    /**
+     * Called at the end of the extraction with the evaluation caches counters.
+     *
+     * @param callCacheStats       counters of the evaluated method calls cache
+     * @param evalContextHitCount  amount of evaluation contexts taken from the cache
+     * @param evalContextMissCount amount of created evaluation contexts
+     */
+    default void onCacheStats(CallCache.Stats callCacheStats, long evalContextHitCount, long evalContextMissCount) {
+    }
+
+    /**
+     * Called if argument variants of a call or an evaluated method exceed the limit and the rest of them is skipped.
+     */
+    default void onArgumentVariantsTruncated(Component component, Method method, int maxVariants) {
+    }
+
+    /**
+     * Called once per method if the method evaluation budget is exceeded.
+     */
+    default void onEvalBudgetExceeded(Component component, Method method) {
+    }
+
+    enum Phase {
+        beanScan,
+        componentGraph,
+        populateInterfaces,
+        filterUnusedInterfaces,
+        removeDuplicatedInterfaces
+    }
+
+    enum Extractor {
+        scheduler,
+        jmsListener,
+        httpController,
+        repository,
+        jmsClient,
+        wsClient,
+        restOperations
+    }
+}
@@ -0,0 +1,385 @@
+package io.github.m4gshm.components.visualizer;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.github.m4gshm.components.visualizer.ComponentsExtractor.JmsService;
+import io.github.m4gshm.components.visualizer.ComponentsExtractor.ScheduledMethod;
+import io.github.m4gshm.components.visualizer.ComponentsExtractor.ScheduledMethod.TriggerType;
+import io.github.m4gshm.components.visualizer.eval.bytecode.EvalContextFactoryImpl.DependentProvider;
+import io.github.m4gshm.components.visualizer.model.*;
+import io.github.m4gshm.components.visualizer.model.Interface.Call;
+import io.github.m4gshm.components.visualizer.model.Interface.Direction;
+import io.github.m4gshm.components.visualizer.model.StorageEntity.Engine;
+import lombok.Data;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.bcel.generic.Type;
+import org.apache.bcel.util.Repository;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static io.github.m4gshm.components.visualizer.Utils.classByName;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.lookupClassSources;
+import static java.io.ObjectInputFilter.Config.createFilter;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Stores extracted interfaces of a component into a file named by a hash of the environment key, the component name,
+ * the class files hierarchies of the component, its transitive dependencies and its transitive dependents.
+ * The evaluation sources of interfaces are not stored, so interfaces with the sources are not cached when the unused
+ * interfaces filter requires them.
+ * The state of beans that is not derived from the environment properties is not a part of the key.
+ */
+@Slf4j
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public class FileInterfacesCache implements InterfacesCache {
+    private static final int FORMAT_VERSION = 1;
+    private static final String EXTENSION = ".interfaces";
+    private static final ObjectInputFilter FILTER = createFilter("maxdepth=16;java.lang.*;java.util.*;"
+            + FileInterfacesCache.class.getName() + "$*;" + Interface.class.getName() + "$*;"
+            + ScheduledMethod.class.getName() + "$*;" + Engine.class.getName() + ";!*");
+
+    Path directory;
+    String environmentKey;
+    boolean evalSourceRequired;
+    //class files hashes, the bytecode of a loaded class does not change
+    Cache<Class<?>, Optional<HashCode>> classSourcesHashes = CacheBuilder.newBuilder().weakKeys().build();
+
+    public FileInterfacesCache(@NonNull Path directory, String environmentKey, boolean evalSourceRequired) {
+        this.directory = directory;
+        this.environmentKey = environmentKey;
+        this.evalSourceRequired = evalSourceRequired;
+    }
+
+    /**
+     * @return hash of the active profiles and the application properties, the system properties and environment
+     * variables are excluded
+     */
+    public static String getEnvironmentKey(Environment environment) {
+        var hasher = Hashing.sha256().newHasher();
+        for (var profile : environment.getActiveProfiles()) {
+            putString(hasher, profile);
+        }
+        if (environment instanceof ConfigurableEnvironment) {
+            var names = new TreeSet<String>();
+            for (var propertySource : ((ConfigurableEnvironment) environment).getPropertySources()) {
+                var name = propertySource.getName();
+                if (propertySource instanceof EnumerablePropertySource
+                        && !StandardEnvironment.SYSTEM_PROPERTIES_PROPERTY_SOURCE_NAME.equals(name)
+                        && !StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME.equals(name)) {
+                    names.addAll(Arrays.asList(((EnumerablePropertySource<?>) propertySource).getPropertyNames()));
+                }
+            }
+            for (var name : names) {
+                putString(hasher, name);
+                try {
+                    putString(hasher, environment.getProperty(name));
+                } catch (IllegalArgumentException e) {
+                    log.debug("environment property resolving error {}", name, e);
+                    putString(hasher, null);
+                }
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void putString(Hasher hasher, String value) {
+        hasher.putUnencodedChars(String.valueOf(value)).putChar('\0');
+    }
+
+    private static Optional<HashCode> hashClassSources(Class<?> type, Repository repository) {
+        var hasher = Hashing.sha256().newHasher();
+        try {
+            for (var javaClass : lookupClassSources(type, repository)) {
+                putString(hasher, javaClass.getClassName());
+                hasher.putBytes(javaClass.getBytes());
+            }
+            return Optional.of(hasher.hash());
+        } catch (ClassNotFoundException e) {
+            log.debug("class sources hashing error of {}", type, e);
+            return Optional.empty();
+        }
+    }
+
+    private static Collection<Component> getTransitive(Component component,
+                                                       Function<Component, Collection<Component>> related) {
+        var result = new LinkedHashSet<Component>();
+        var queue = new ArrayDeque<Component>();
+        queue.add(component);
+        while (!queue.isEmpty()) {
+            var relatedComponents = related.apply(queue.poll());
+            if (relatedComponents != null) for (var relatedComponent : relatedComponents) {
+                if (relatedComponent != null && !component.equals(relatedComponent) && result.add(relatedComponent)) {
+                    queue.add(relatedComponent);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<Component> sorted(Collection<Component> components) {
+        return components.stream()
+                .sorted(comparing(component -> component.getName() + ":" + component.getType().getName()))
+                .collect(toList());
+    }
+
+    private static boolean isCacheable(Object value) {
+        return value == null || value instanceof String || value instanceof HttpMethod
+                || value instanceof ScheduledMethod || value instanceof JmsService.Destination
+                || value instanceof StorageEntity;
+    }
+
+    private ArrayList<InterfaceData> encode(List<Interface> interfaces) {
+        var result = new ArrayList<InterfaceData>(interfaces.size());
+        for (var anInterface : interfaces) {
+            var core = anInterface.getCore();
+            var name = anInterface.getName();
+            if (!(isCacheable(core) && isCacheable(name))
+                    || evalSourceRequired && anInterface.getEvalSource() != null) {
+                return null;
+            }
+            result.add(new InterfaceData(encodeValue(core), encodeValue(name), anInterface.getId(),
+                    anInterface.getDirection(), anInterface.getType(), anInterface.getCall(),
+                    encodeMethodId(anInterface.getMethodSource())));
+        }
+        return result;
+    }
+
+    private static Serializable encodeValue(Object value) {
+        if (value instanceof HttpMethod) {
+            var httpMethod = (HttpMethod) value;
+            return new HttpMethodData(httpMethod.getMethod(), httpMethod.getPath(),
+                    encodeMethodId(httpMethod.getMethodSource()));
+        } else if (value instanceof ScheduledMethod) {
+            var scheduledMethod = (ScheduledMethod) value;
+            return new ScheduledMethodData(scheduledMethod.getBeanName(), encodeMethodId(scheduledMethod.getMethod()),
+                    scheduledMethod.getExpression(), scheduledMethod.getTriggerType());
+        } else if (value instanceof JmsService.Destination) {
+            var destination = (JmsService.Destination) value;
+            return new DestinationData(destination.getDestination(), destination.getDirection());
+        } else if (value instanceof StorageEntity) {
+            var storageEntity = (StorageEntity) value;
+            var entityType = storageEntity.getEntityType();
+            var storedTo = storageEntity.getStoredTo();
+            return new StorageEntityData(entityType != null ? entityType.getName() : null,
+                    storedTo != null ? new ArrayList<>(storedTo) : null, storageEntity.getEngine());
+        } else {
+            return (String) value;
+        }
+    }
+
+    private static MethodIdData encodeMethodId(MethodId methodId) {
+        return methodId != null ? new MethodIdData(methodId.getName(), Arrays.stream(methodId.getArgumentTypes())
+                .map(Type::getSignature).toArray(String[]::new)) : null;
+    }
+
+    private static List<Interface> decode(List<InterfaceData> interfaces) throws ClassNotFoundException {
+        var result = new ArrayList<Interface>(interfaces.size());
+        for (var data : interfaces) {
+            result.add(Interface.builder()
+                    .core(decodeValue(data.getCore()))
+                    .name((CharSequence) decodeValue(data.getName()))
+                    .id(data.getId())
+                    .direction(data.getDirection())
+                    .type(data.getType())
+                    .call(data.getCall())
+                    .methodSource(decodeMethodId(data.getMethodSource()))
+                    .build());
+        }
+        return result;
+    }
+
+    private static Object decodeValue(Serializable value) throws ClassNotFoundException {
+        if (value instanceof HttpMethodData) {
+            var data = (HttpMethodData) value;
+            return HttpMethod.builder().method(data.getMethod()).path(data.getPath())
+                    .methodSource(decodeMethodId(data.getMethodSource())).build();
+        } else if (value instanceof ScheduledMethodData) {
+            var data = (ScheduledMethodData) value;
+            return ScheduledMethod.builder().beanName(data.getBeanName()).method(decodeMethodId(data.getMethod()))
+                    .expression(data.getExpression()).triggerType(data.getTriggerType()).build();
+        } else if (value instanceof DestinationData) {
+            var data = (DestinationData) value;
+            return JmsService.Destination.builder().destination(data.getDestination())
+                    .direction(data.getDirection()).build();
+        } else if (value instanceof StorageEntityData) {
+            var data = (StorageEntityData) value;
+            var entityType = data.getEntityType();
+            return StorageEntity.builder().entityType(entityType != null ? classByName(entityType) : null)
+                    .storedTo(data.getStoredTo()).engine(data.getEngine()).build();
+        } else {
+            return value;
+        }
+    }
+
+    private static MethodId decodeMethodId(MethodIdData data) {
+        return data != null ? MethodId.newMethodId(data.getName(), Arrays.stream(data.getArgumentTypes())
+                .map(Type::getType).toArray(Type[]::new)) : null;
+    }
+
+    @Override
+    public List<Interface> get(Component component, DependentProvider dependentProvider, Repository repository,
+                               Supplier<List<Interface>> extractor) {
+        var key = getKey(component, dependentProvider, repository);
+        if (key == null) {
+            return extractor.get();
+        }
+        var file = directory.resolve(key + EXTENSION);
+        var cached = read(file);
+        if (cached != null) {
+            log.debug("interfaces are loaded from the cache file {}, component {}", file, component.getName());
+            return cached;
+        }
+        var interfaces = extractor.get();
+        if (interfaces != null) {
+            write(file, interfaces, component);
+        }
+        return interfaces;
+    }
+
+    protected String getKey(Component component, DependentProvider dependentProvider, Repository repository) {
+        var hasher = Hashing.sha256().newHasher().putInt(FORMAT_VERSION);
+        putString(hasher, environmentKey);
+        putString(hasher, component.getName());
+        if (!putClassSources(hasher, component.getType(), repository)) {
+            return null;
+        }
+        var dependencies = sorted(getTransitive(component, Component::getDependencies));
+        var dependents = sorted(getTransitive(component, dependentProvider::apply));
+        for (var related : List.of(dependencies, dependents)) {
+            hasher.putInt(related.size());
+            for (var relatedComponent : related) {
+                putString(hasher, relatedComponent.getName());
+                if (!putClassSources(hasher, relatedComponent.getType(), repository)) {
+                    return null;
+                }
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    private boolean putClassSources(Hasher hasher, Class<?> type, Repository repository) {
+        Optional<HashCode> hash;
+        try {
+            hash = classSourcesHashes.get(type, () -> hashClassSources(type, repository));
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        hash.ifPresent(value -> hasher.putBytes(value.asBytes()));
+        return hash.isPresent();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Interface> read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (var in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            in.setObjectInputFilter(FILTER);
+            return decode((List<InterfaceData>) in.readObject());
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            log.warn("cache file reading error {}", file, e);
+            return null;
+        }
+    }
+
+    private void write(Path file, List<Interface> interfaces, Component component) {
+        var data = encode(interfaces);
+        if (data == null) {
+            log.debug("interfaces are not cacheable, component {}", component.getName());
+            return;
+        }
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (var out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeObject(data);
+            }
+            Files.move(tmp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("cache file writing error {}", file, e);
+        } finally {
+            if (tmp != null) try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException e) {
+                log.debug("temp file deleting error {}", tmp, e);
+            }
+        }
+    }
+
+    @Data
+    @FieldDefaults(makeFinal = true, level = PRIVATE)
+    static class InterfaceData implements Serializable {
+        private static final long serialVersionUID = 1L;
+        Serializable core;
+        Serializable name;
+        String id;
+        Direction direction;
+        Interface.Type type;
+        Call call;
+        MethodIdData methodSource;
+    }
+
+    @Data
+    @FieldDefaults(makeFinal = true, level = PRIVATE)
+    static class MethodIdData implements Serializable {
+        private static final long serialVersionUID = 1L;
+        String name;
+        String[] argumentTypes;
+    }
+
+    @Data
+    @FieldDefaults(makeFinal = true, level = PRIVATE)
+    static class HttpMethodData implements Serializable {
+        private static final long serialVersionUID = 1L;
+        String method;
+        String path;
+        MethodIdData methodSource;
+    }
+
+    @Data
+    @FieldDefaults(makeFinal = true, level = PRIVATE)
+    static class ScheduledMethodData implements Serializable {
+        private static final long serialVersionUID = 1L;
+        String beanName;
+        MethodIdData method;
+        String expression;
+        TriggerType triggerType;
+    }
+
+    @Data
+    @FieldDefaults(makeFinal = true, level = PRIVATE)
+    static class DestinationData implements Serializable {
+        private static final long serialVersionUID = 1L;
+        String destination;
+        Direction direction;
+    }
+
+    @Data
+    @FieldDefaults(makeFinal = true, level = PRIVATE)
+    static class StorageEntityData implements Serializable {
+        private static final long serialVersionUID = 1L;
+        String entityType;
+        ArrayList<String> storedTo;
+        Engine engine;
+    }
+}
@@ -2,17 +2,22 @@ package io.github.m4gshm.components.visualizer;
 
 import lombok.RequiredArgsConstructor;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.StringTokenizer;
 
+/**
+ * Writes indented text to an {@link Appendable}. IO errors are rethrown as {@link UncheckedIOException}.
+ */
 @RequiredArgsConstructor
 public class IndentStringAppender {
 
-    private final StringBuilder out;
+    private final Appendable out;
     private final String intend;
     private final String lineBreak;
     private int level;
     private boolean newLine;
-    public IndentStringAppender(StringBuilder out, String intend) {
+    public IndentStringAppender(Appendable out, String intend) {
         this(out, intend, "\n");
     }
 
@@ -33,20 +38,20 @@ public class IndentStringAppender {
                 while (tokenizer.hasMoreTokens()) {
                     var line = tokenizer.nextToken();
                     if (newLine) {
-                        out.append(intends);
+                        write(intends);
                         newLine = false;
                     }
-                    out.append(line);
+                    write(line);
                     if (line.endsWith(lineBreak)) {
                         newLine = true;
                     }
                 }
             } else {
                 if (newLine) {
-                    out.append(intends);
+                    write(intends);
                     newLine = false;
                 }
-                out.append(text);
+                write(text);
                 if (text.endsWith(lineBreak)) {
                     newLine = true;
                 }
@@ -55,6 +60,14 @@ public class IndentStringAppender {
         return this;
     }
 
+    private void write(String text) {
+        try {
+            out.append(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public IndentStringAppender append(String text) {
         return append(text, true);
     }
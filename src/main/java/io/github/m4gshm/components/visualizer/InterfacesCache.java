@@ -0,0 +1,41 @@
+package io.github.m4gshm.components.visualizer;
+
+import io.github.m4gshm.components.visualizer.eval.bytecode.EvalContextFactoryImpl.DependentProvider;
+import io.github.m4gshm.components.visualizer.model.Component;
+import io.github.m4gshm.components.visualizer.model.Interface;
+import org.apache.bcel.util.Repository;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Extracted interfaces of components that are kept between extractions.
+ */
+public interface InterfacesCache {
+
+    static InterfacesCache noInterfacesCache() {
+        return (component, dependentProvider, repository, extractor) -> extractor.get();
+    }
+
+    /**
+     * @param directory          cache files directory, it is created if absent
+     * @param environmentKey     fingerprint of the application environment, the cached interfaces are not reused if
+     *                           it changes
+     * @param evalSourceRequired interfaces with evaluation sources are not stored if true, because the sources are not
+     *                           restored on loading and the unused interfaces filter would work differently on them
+     */
+    static InterfacesCache newFileInterfacesCache(Path directory, String environmentKey, boolean evalSourceRequired) {
+        return new FileInterfacesCache(directory, environmentKey, evalSourceRequired);
+    }
+
+    /**
+     * @param component         component of the interfaces
+     * @param dependentProvider provides components that depend on the component, their calls are arguments of the
+     *                          component methods
+     * @param repository        class sources repository used to calculate the component key
+     * @param extractor         extracts the interfaces if they are not cached
+     */
+    List<Interface> get(Component component, DependentProvider dependentProvider, Repository repository,
+                        Supplier<List<Interface>> extractor);
+}
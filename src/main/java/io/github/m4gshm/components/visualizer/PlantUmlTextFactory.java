@@ -11,6 +11,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.function.BiFunction;
@@ -34,6 +39,7 @@ import static io.github.m4gshm.components.visualizer.model.HttpMethodsGroup.make
 import static io.github.m4gshm.components.visualizer.model.Interface.Type.*;
 import static io.github.m4gshm.components.visualizer.model.StorageEntity.Engine.jpa;
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -123,8 +129,32 @@ public class PlantUmlTextFactory implements SchemaFactory<String> {
 
     @Override
     public String create(Components components) {
-        var out = new IndentStringAppender(new StringBuilder(), INDENT);
+        var out = new StringBuilder();
+        print(new IndentStringAppender(out, INDENT), components);
+        return out.toString();
+    }
+
+    /**
+     * Writes the diagram to the stream in UTF-8. The stream is flushed but not closed.
+     */
+    public void create(Components components, OutputStream out) throws IOException {
+        var writer = new BufferedWriter(new OutputStreamWriter(out, UTF_8));
+        create(components, (Appendable) writer);
+        writer.flush();
+    }
 
+    /**
+     * Writes the diagram to the output without keeping the whole text in memory.
+     */
+    public void create(Components components, Appendable output) throws IOException {
+        try {
+            print(new IndentStringAppender(output, INDENT), components);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    protected void print(IndentStringAppender out, Components components) {
         out.append("@startuml\n");
         var head = options.getHead();
         if (head != null) {
@@ -162,7 +192,6 @@ public class PlantUmlTextFactory implements SchemaFactory<String> {
             out.append("\n");
         }
         out.append("@enduml\n");
-        return out.toString();
     }
 
     protected void checkUniqueId(String id, Object object) {
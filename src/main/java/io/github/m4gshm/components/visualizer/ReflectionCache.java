@@ -0,0 +1,127 @@
+package io.github.m4gshm.components.visualizer;
+
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.UtilityClass;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Member;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Fields, methods and constructors found by the class hierarchy walk, including not found ones, and the resolved
+ * accessibility of them. The metadata is bound to classes by {@link ClassValue}, so unloaded classes are not kept.
+ */
+@UtilityClass
+public class ReflectionCache {
+    private static final ClassValue<Members> members = new ClassValue<>() {
+        @Override
+        protected Members computeValue(Class<?> type) {
+            return new Members();
+        }
+    };
+
+    /**
+     * @return the field of the type or of the nearest superclass, or null if not found
+     */
+    public static Field getField(Class<?> type, String name) {
+        if (type == null) {
+            return null;
+        }
+        return members.get(type).fields.computeIfAbsent(name, n -> {
+            var current = type;
+            while (!(current == null || Object.class.equals(current))) try {
+                return Optional.of(current.getDeclaredField(n));
+            } catch (NoSuchFieldException e) {
+                current = current.getSuperclass();
+            }
+            return Optional.empty();
+        }).orElse(null);
+    }
+
+    /**
+     * @return the method of the type, of the nearest superclass or of the type interfaces, or null if not found
+     */
+    public static Method getMethod(Class<?> type, String name, Class<?>[] argumentTypes) {
+        if (type == null) {
+            return null;
+        }
+        var key = new MethodKey(name, toList(argumentTypes));
+        return members.get(type).methods.computeIfAbsent(key, k -> {
+            return Optional.ofNullable(findMethod(type, name, argumentTypes));
+        }).orElse(null);
+    }
+
+    private static Method findMethod(Class<?> type, String name, Class<?>[] argumentTypes) {
+        var current = type;
+        while (!(current == null || Object.class.equals(current))) try {
+            return current.getDeclaredMethod(name, argumentTypes);
+        } catch (NoSuchMethodException e) {
+            current = current.getSuperclass();
+        }
+        return Arrays.stream(type.getInterfaces()).map(iface -> getMethod(iface, name, argumentTypes))
+                .filter(Objects::nonNull).findFirst().orElse(null);
+    }
+
+    /**
+     * @return the declared constructor of the type or null if not found
+     */
+    public static Constructor<?> getConstructor(Class<?> type, Class<?>[] argumentTypes) {
+        return members.get(type).constructors.computeIfAbsent(toList(argumentTypes), k -> {
+            try {
+                return Optional.of(type.getDeclaredConstructor(argumentTypes));
+            } catch (NoSuchMethodException e) {
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+
+    private static List<Class<?>> toList(Class<?>[] argumentTypes) {
+        return argumentTypes == null ? List.of() : Arrays.asList(argumentTypes.clone());
+    }
+
+    /**
+     * Calls {@link AccessibleObject#trySetAccessible()} if the member is not accessible yet.
+     * The members that cannot be made accessible are remembered and not tried again.
+     */
+    @SuppressWarnings("deprecation")
+    public static <T extends AccessibleObject & Member> boolean trySetAccessible(T member) {
+        if (member.isAccessible()) {
+            return true;
+        }
+        var inaccessible = members.get(member.getDeclaringClass()).inaccessible;
+        if (inaccessible.containsKey(member)) {
+            return false;
+        }
+        var accessible = member.trySetAccessible();
+        if (!accessible) {
+            inaccessible.put(member, Boolean.TRUE);
+        }
+        return accessible;
+    }
+
+    @FieldDefaults(makeFinal = true, level = PRIVATE)
+    private static class Members {
+        ConcurrentMap<String, Optional<Field>> fields = new ConcurrentHashMap<>();
+        ConcurrentMap<MethodKey, Optional<Method>> methods = new ConcurrentHashMap<>();
+        ConcurrentMap<List<Class<?>>, Optional<Constructor<?>>> constructors = new ConcurrentHashMap<>();
+        ConcurrentMap<AccessibleObject, Boolean> inaccessible = new ConcurrentHashMap<>();
+    }
+
+    @Data
+    @FieldDefaults(makeFinal = true, level = PRIVATE)
+    private static class MethodKey {
+        String name;
+        List<Class<?>> argumentTypes;
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.m4gshm.components.visualizer;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Virtual thread per task executors of Java 21+ runtimes. The factory is looked up reflectively, so the library is
+ * still built and run on Java 11.
+ */
+@Slf4j
+@UtilityClass
+public class VirtualThreads {
+    private static final MethodHandle newVirtualThreadPerTaskExecutor = lookupExecutorFactory();
+
+    private static MethodHandle lookupExecutorFactory() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            log.debug("virtual threads are not supported by the runtime", e);
+            return null;
+        }
+    }
+
+    public static boolean isSupported() {
+        return newVirtualThreadPerTaskExecutor != null;
+    }
+
+    /**
+     * @return a new executor that starts a virtual thread for each task or null if virtual threads are not supported
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (newVirtualThreadPerTaskExecutor == null) {
+            return null;
+        }
+        try {
+            return (ExecutorService) newVirtualThreadPerTaskExecutor.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.github.m4gshm.components.visualizer.client;
 
 import io.github.m4gshm.components.visualizer.ComponentsExtractor.JmsService;
 import io.github.m4gshm.components.visualizer.eval.bytecode.*;
+import io.github.m4gshm.components.visualizer.eval.bytecode.InvokeIndex.InvokeIndexProvider;
 import io.github.m4gshm.components.visualizer.eval.result.DelayInvoke;
 import io.github.m4gshm.components.visualizer.eval.result.Resolver;
 import io.github.m4gshm.components.visualizer.eval.result.Result;
@@ -20,13 +21,11 @@ import java.util.Set;
 import java.util.stream.Stream;
 
 import static io.github.m4gshm.components.visualizer.ComponentsExtractorUtils.getDeclaredMethod;
-import static io.github.m4gshm.components.visualizer.client.RestOperationsUtils.isClass;
+import static io.github.m4gshm.components.visualizer.client.Utils.extractCall;
 import static io.github.m4gshm.components.visualizer.client.Utils.resolveInvokeParameters;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.getClassSources;
-import static io.github.m4gshm.components.visualizer.eval.bytecode.InstructionUtils.instructions;
 import static io.github.m4gshm.components.visualizer.model.Interface.Direction.*;
 import static io.github.m4gshm.components.visualizer.model.MethodId.newMethodId;
-import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
 
 @Slf4j
@@ -40,29 +39,27 @@ public class JmsOperationsUtils {
     private static final Set<String> jmsQueueClassNames = Set.of("javax.jms.Queue", "jakarta.jms.Queue");
     private static final Set<String> jmsTopicClassNames = Set.of("javax.jms.Topic", "jakarta.jms.Topic");
 
-    public static List<JmsService> extractJmsClients(Component component,
-                                                     EvalContextFactory evalContextFactory, Resolver resolver) {
-        var javaClasses = getClassSources(component.getType());
+    public static List<JmsService> extractJmsClients(Component component, EvalContextFactory evalContextFactory,
+                                                     ClassSourceRepository classSourceRepository,
+                                                     InvokeIndexProvider invokeIndexProvider, Resolver resolver,
+                                                     boolean failFast) {
+        var javaClasses = getClassSources(component.getType(), classSourceRepository);
         return javaClasses.stream().flatMap(javaClass -> {
-            var constantPoolGen = new ConstantPoolGen(javaClass.getConstantPool());
-            var methods = javaClass.getMethods();
-
-            return stream(methods).flatMap(method -> instructions(method).flatMap(instructionHandle -> {
-                var instruction = instructionHandle.getInstruction();
-                var expectedType = instruction instanceof INVOKEVIRTUAL ? JmsTemplate.class :
-                        instruction instanceof INVOKEINTERFACE ? JmsOperations.class : null;
-                var match = expectedType != null && isClass(expectedType, ((InvokeInstruction) instruction), constantPoolGen);
-                return match
-                        ? extractJmsClients(component, instructionHandle,
-                        constantPoolGen, evalContextFactory.getEvalContext(component, javaClass, method), resolver).stream()
-                        : Stream.of();
-            }).filter(Objects::nonNull));
+            var invokeIndex = invokeIndexProvider.apply(javaClass);
+            var constantPoolGen = invokeIndex.getConstantPoolGen();
+            var invokes = invokeIndex.getInvokes(JmsTemplate.class.getName(), JmsOperations.class.getName());
+            return invokes.stream().filter(invoke -> invoke.isInstanceOf(INVOKEVIRTUAL.class)
+                    || invoke.isInstanceOf(INVOKEINTERFACE.class)
+            ).flatMap(invoke -> extractCall(component, invoke.getMethod(), failFast, () -> extractJmsClients(
+                    component, invoke.getHandle(), constantPoolGen,
+                    evalContextFactory.getEvalContext(component, javaClass, invoke.getMethod()), resolver, failFast)
+            ).stream()).filter(Objects::nonNull);
         }).collect(toList());
     }
 
     private static List<JmsService> extractJmsClients(
             Component component, InstructionHandle instructionHandle, ConstantPoolGen constantPoolGen,
-            Eval eval, Resolver resolver) {
+            Eval eval, Resolver resolver, boolean failFast) {
         log.trace("extractJmsClients, componentName {}", component.getName());
         var instruction = (InvokeInstruction) instructionHandle.getInstruction();
 
@@ -72,7 +69,7 @@ public class JmsOperationsUtils {
             return List.of();
         } else {
             var result = (DelayInvoke) eval.eval(instructionHandle);
-            var variants = resolveInvokeParameters(eval, result, component, methodName, resolver);
+            var variants = resolveInvokeParameters(eval, result, component, methodName, resolver, failFast);
             var results = variants.stream().parallel().flatMap(paramVariant -> {
                 return getJmsClientStream(paramVariant, direction, methodName, eval, resolver);
             }).collect(toList());
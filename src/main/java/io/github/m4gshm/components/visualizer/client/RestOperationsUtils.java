@@ -1,6 +1,8 @@
 package io.github.m4gshm.components.visualizer.client;
 
+import io.github.m4gshm.components.visualizer.eval.bytecode.ClassSourceRepository;
 import io.github.m4gshm.components.visualizer.eval.bytecode.EvalContextFactory;
+import io.github.m4gshm.components.visualizer.eval.bytecode.InvokeIndex.InvokeIndexProvider;
 import io.github.m4gshm.components.visualizer.eval.bytecode.NotInvokedException;
 import io.github.m4gshm.components.visualizer.eval.result.DelayInvoke;
 import io.github.m4gshm.components.visualizer.eval.result.Resolver;
@@ -22,43 +24,38 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
+import static io.github.m4gshm.components.visualizer.client.Utils.extractCall;
 import static io.github.m4gshm.components.visualizer.client.Utils.resolveInvokeParameters;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.getClassSources;
-import static io.github.m4gshm.components.visualizer.eval.bytecode.InstructionUtils.instructions;
-import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
-import static org.apache.bcel.Const.ATTR_BOOTSTRAP_METHODS;
 
 @Slf4j
 @UtilityClass
 public class RestOperationsUtils {
-    public static List<HttpMethod> extractRestOperationsUris(Component component,
-                                                             EvalContextFactory evalContextFactory, Resolver resolver) {
-        var javaClasses = getClassSources(component.getType());
+    public static List<HttpMethod> extractRestOperationsUris(Component component, EvalContextFactory evalContextFactory,
+                                                             ClassSourceRepository classSourceRepository,
+                                                             InvokeIndexProvider invokeIndexProvider, Resolver resolver,
+                                                             boolean failFast) {
+        var javaClasses = getClassSources(component.getType(), classSourceRepository);
         return javaClasses.stream().flatMap(javaClass -> {
-            var constantPoolGen = new ConstantPoolGen(javaClass.getConstantPool());
-            var methods = javaClass.getMethods();
-            var bootstrapMethods = javaClass.<BootstrapMethods>getAttribute(ATTR_BOOTSTRAP_METHODS);
-            return stream(methods).flatMap(method -> instructions(method).map(instructionHandle -> {
-                var instruction = instructionHandle.getInstruction();
-                var expectedType = instruction instanceof INVOKEVIRTUAL ? RestTemplate.class :
-                        instruction instanceof INVOKEINTERFACE ? RestOperations.class : null;
-                var match = expectedType != null && isClass(expectedType, ((InvokeInstruction) instruction), constantPoolGen);
-                return match ? extractHttpMethods(component, instructionHandle, javaClass, constantPoolGen, bootstrapMethods,
-                        method, evalContextFactory, resolver) : null;
-            }).filter(Objects::nonNull).flatMap(Collection::stream)).filter(Objects::nonNull);
+            var invokeIndex = invokeIndexProvider.apply(javaClass);
+            var constantPoolGen = invokeIndex.getConstantPoolGen();
+            var bootstrapMethods = invokeIndex.getBootstrapMethods();
+            var invokes = invokeIndex.getInvokes(RestTemplate.class.getName(), RestOperations.class.getName());
+            return invokes.stream().filter(invoke -> invoke.isInstanceOf(INVOKEVIRTUAL.class)
+                    || invoke.isInstanceOf(INVOKEINTERFACE.class)
+            ).map(invoke -> extractCall(component, invoke.getMethod(), failFast, () -> extractHttpMethods(component,
+                    invoke.getHandle(), javaClass, constantPoolGen, bootstrapMethods, invoke.getMethod(),
+                    evalContextFactory, resolver, failFast)
+            )).filter(Objects::nonNull).flatMap(Collection::stream).filter(Objects::nonNull);
         }).collect(toList());
     }
 
-    static boolean isClass(Class<?> expectedClass, InvokeInstruction instruction, ConstantPoolGen constantPoolGen) {
-        var className = instruction.getClassName(constantPoolGen);
-        return expectedClass.getName().equals(className);
-    }
-
     private static List<HttpMethod> extractHttpMethods(Component component, InstructionHandle instructionHandle,
                                                        JavaClass javaClass, ConstantPoolGen constantPoolGen,
                                                        BootstrapMethods bootstrapMethods, Method method,
-                                                       EvalContextFactory evalContextFactory, Resolver resolver) {
+                                                       EvalContextFactory evalContextFactory, Resolver resolver,
+                                                       boolean failFast) {
         var instructionText = instructionHandle.getInstruction().toString(constantPoolGen.getConstantPool());
         log.info("extractHttpMethod component {}, method {}, invoke {}", component.getName(), method.toString(),
                 instructionText);
@@ -66,7 +63,7 @@ public class RestOperationsUtils {
         var methodName = instruction.getMethodName(constantPoolGen);
         var eval = evalContextFactory.getEvalContext(component, javaClass, method, bootstrapMethods);
         var result = (DelayInvoke) eval.eval(instructionHandle);
-        var variants = resolveInvokeParameters(eval, result, component, methodName, resolver);
+        var variants = resolveInvokeParameters(eval, result, component, methodName, resolver, failFast);
 
         @Data
         @FieldDefaults(makeFinal = true)
@@ -2,8 +2,11 @@ package io.github.m4gshm.components.visualizer.client;
 
 import io.github.m4gshm.components.visualizer.ComponentsExtractor.ScheduledMethod;
 import io.github.m4gshm.components.visualizer.ComponentsExtractor.ScheduledMethod.TriggerType;
+import io.github.m4gshm.components.visualizer.eval.bytecode.BytecodeCache;
+import io.github.m4gshm.components.visualizer.eval.bytecode.ClassSourceRepository;
 import io.github.m4gshm.components.visualizer.eval.bytecode.Eval;
 import io.github.m4gshm.components.visualizer.eval.bytecode.EvalContextFactory;
+import io.github.m4gshm.components.visualizer.eval.bytecode.InvokeIndex.InvokeIndexProvider;
 import io.github.m4gshm.components.visualizer.eval.result.DelayInvoke;
 import io.github.m4gshm.components.visualizer.eval.result.DelayLoadFromStore;
 import io.github.m4gshm.components.visualizer.eval.result.Resolver;
@@ -19,6 +22,7 @@ import org.apache.bcel.classfile.BootstrapMethods;
 import org.apache.bcel.classfile.JavaClass;
 import org.apache.bcel.classfile.Method;
 import org.apache.bcel.generic.*;
+import org.apache.bcel.util.Repository;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
 import org.springframework.scheduling.config.CronTask;
 import org.springframework.scheduling.config.IntervalTask;
@@ -33,8 +37,6 @@ import java.util.stream.Stream;
 import static io.github.m4gshm.components.visualizer.Utils.classByName;
 import static io.github.m4gshm.components.visualizer.client.Utils.getBootstrapMethods;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.*;
-import static io.github.m4gshm.components.visualizer.eval.bytecode.InstructionUtils.Mapper.ofClass;
-import static io.github.m4gshm.components.visualizer.eval.bytecode.InstructionUtils.instructions;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.InvokeDynamicUtils.getBootstrapMethodHandlerAndArguments;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.InvokeDynamicUtils.getInvokeDynamicUsedMethodInfo;
 import static io.github.m4gshm.components.visualizer.model.MethodId.newMethodId;
@@ -56,25 +58,28 @@ public class SchedulingConfigurerUtils {
     public static List<ScheduledMethod> getScheduledByConfigurerMethods(Component component, Class<?> componentType,
                                                                         Function<TimeUnit, String> timeUnitStringifier,
                                                                         EvalContextFactory evalContextFactory,
+                                                                        ClassSourceRepository classSourceRepository,
+                                                                        InvokeIndexProvider invokeIndexProvider,
                                                                         Resolver resolver) {
         if (SchedulingConfigurer.class.isAssignableFrom(componentType)) {
             var configureTasksMethodClassPair = getClassAndMethodSource(componentType, "configureTasks",
-                    array(getType(ScheduledTaskRegistrar.class)));
+                    array(getType(ScheduledTaskRegistrar.class)), classSourceRepository);
             if (configureTasksMethodClassPair != null) {
                 var method = configureTasksMethodClassPair.getValue();
                 var source = configureTasksMethodClassPair.getKey();
-                var constantPoolGen = new ConstantPoolGen(method.getConstantPool());
-                return instructions(method).flatMap(ofClass(INVOKEVIRTUAL.class, (handle, invoke) -> {
-                    var methodName = invoke.getMethodName(constantPoolGen);
+                var invokes = invokeIndexProvider.apply(source).getInvokes(method);
+                return invokes.stream().filter(invoke -> invoke.isInstanceOf(INVOKEVIRTUAL.class)).flatMap(invoke -> {
+                    var methodName = invoke.getMethodName();
                     var fixedRate = "addFixedRateTask".equals(methodName);
                     var fixeDelay = "addFixedDelayTask".equals(methodName);
                     var cron = "addCronTask".equals(methodName);
                     var triggerType = fixedRate ? TriggerType.fixedRate : fixeDelay
                             ? TriggerType.fixedDelay : cron
                             ? TriggerType.cron : null;
-                    return triggerType != null ? extractScheduledMethods(triggerType, handle, component, componentType,
-                            source, method, evalContextFactory, resolver, timeUnitStringifier).stream() : of();
-                }, Stream::of)).collect(toList());
+                    return triggerType != null ? extractScheduledMethods(triggerType, invoke.getHandle(), component,
+                            componentType, source, method, evalContextFactory, resolver, timeUnitStringifier).stream()
+                            : Stream.<ScheduledMethod>of();
+                }).collect(toList());
             }
         }
         return List.of();
@@ -140,7 +145,7 @@ public class SchedulingConfigurerUtils {
                                                                       InstructionHandle first,
                                                                       Eval evalContext
     ) throws ClassNotFoundException {
-        var constantPoolGen = new ConstantPoolGen(method.getConstantPool());
+        var constantPoolGen = evalContext.getConstantPoolGen();
 
         var instruction = first.getInstruction();
         var intervalTaskConstructor = isConstructorOfClass(instruction, IntervalTask.class, constantPoolGen);
@@ -212,7 +217,8 @@ public class SchedulingConfigurerUtils {
                         .findFirst().orElseThrow(() -> methodNotFoundException(javaClass.getClassName(), methodName,
                                 argumentTypes));
             } else {
-                var classAndMethodSource = getClassAndMethodSource(getClassByName(className), methodName, argumentTypes);
+                var classAndMethodSource = getClassAndMethodSource(getClassByName(className), methodName,
+                        argumentTypes, javaClass.getRepository());
                 if (classAndMethodSource == null) {
                     throw methodNotFoundException(className, methodName, argumentTypes);
                 }
@@ -222,7 +228,7 @@ public class SchedulingConfigurerUtils {
             var evalContext1 = evalContextFactory.getEvalContext(component1, javaClass1, method1)
                     .withArguments(0, delayInvokeExpr.getArguments());
 
-            var instructionHandles = instructions(method1).collect(toList());
+            var instructionHandles = evalContext1.getBytecodeCache().instructions(method1).collect(toList());
 
             var last1 = !instructionHandles.isEmpty() ? instructionHandles.get(instructionHandles.size() - 1) : null;
 
@@ -291,7 +297,8 @@ public class SchedulingConfigurerUtils {
             List<MethodId> scheduledMethodIds;
             if (isLambda(runnableClass)) {
                 scheduledMethodIds = getMethodIds(componentType, runnableExpr.getFirstInstruction(),
-                        eval.getConstantPoolGen(), source, getBootstrapMethods(source), touched);
+                        eval.getConstantPoolGen(), source, getBootstrapMethods(source), touched,
+                        eval.getBytecodeCache());
                 if (scheduledMethodIds.isEmpty()) {
                     //unnamed methods
                     //log
@@ -299,7 +306,8 @@ public class SchedulingConfigurerUtils {
                 }
             } else {
                 scheduledMethodIds = getScheduledMethodIdsFromMethodSource(componentType,
-                        getClassAndMethodSource(runnableClass, "run", NO_ARGS), touched);
+                        getClassAndMethodSource(runnableClass, "run", NO_ARGS, source.getRepository()), touched,
+                        eval.getBytecodeCache());
             }
             methodIdStream = scheduledMethodIds.stream();
         }
@@ -321,43 +329,51 @@ public class SchedulingConfigurerUtils {
     }
 
     private static List<MethodId> getScheduledMethodIdsFromMethodSource(
-            Class<?> beanType, Entry<JavaClass, Method> runClassMethodPair, Map<String, Set<MethodId>> touched
+            Class<?> beanType, Entry<JavaClass, Method> runClassMethodPair, Map<String, Set<MethodId>> touched,
+            BytecodeCache bytecodeCache
     ) {
-        return getScheduledMethodIdsFromMethodSource(beanType, runClassMethodPair.getKey(), runClassMethodPair.getValue(), touched);
+        return getScheduledMethodIdsFromMethodSource(beanType, runClassMethodPair.getKey(),
+                runClassMethodPair.getValue(), touched, bytecodeCache);
     }
 
     private static List<MethodId> getScheduledMethodIdsFromMethodSource(Class<?> beanType, JavaClass source,
-                                                                        Method method, Map<String, Set<MethodId>> touched) {
+                                                                        Method method,
+                                                                        Map<String, Set<MethodId>> touched,
+                                                                        BytecodeCache bytecodeCache) {
         var bootstrapMethods = getBootstrapMethods(source);
-        var constantPoolGen = new ConstantPoolGen(source.getConstantPool());
+        var constantPoolGen = bytecodeCache.getConstantPoolGen(source);
 
-        return instructions(method)
+        return bytecodeCache.instructions(method)
                 .filter(instructionHandle -> !(instructionHandle.getInstruction() instanceof GETFIELD))
                 .filter(instructionHandle -> !(instructionHandle.getInstruction() instanceof GETSTATIC))
                 .map(instructionHandle -> {
-                    return getMethodIds(beanType, instructionHandle, constantPoolGen, source, bootstrapMethods, touched);
+                    return getMethodIds(beanType, instructionHandle, constantPoolGen, source, bootstrapMethods, touched,
+                            bytecodeCache);
                 }).flatMap(Collection::stream).collect(toList());
     }
 
     private static List<MethodId> getMethodIds(Class<?> beanType, InstructionHandle instructionHandle,
                                                ConstantPoolGen constantPoolGen, JavaClass source,
-                                               BootstrapMethods bootstrapMethods, Map<String, Set<MethodId>> touched) {
+                                               BootstrapMethods bootstrapMethods, Map<String, Set<MethodId>> touched,
+                                               BytecodeCache bytecodeCache) {
         var instruction = instructionHandle.getInstruction();
+        var repository = source.getRepository();
         if (instruction instanceof INVOKEDYNAMIC) {
-            return getMethodIds(beanType, (INVOKEDYNAMIC) instruction, constantPoolGen, bootstrapMethods, touched);
+            return getMethodIds(beanType, (INVOKEDYNAMIC) instruction, constantPoolGen, bootstrapMethods, repository,
+                    touched, bytecodeCache);
         } else if (instruction instanceof InvokeInstruction) {
-            return getMethodIds(beanType, instructionHandle, constantPoolGen, touched);
+            return getMethodIds(beanType, instructionHandle, constantPoolGen, repository, touched, bytecodeCache);
         } else if (instruction instanceof GETFIELD) {
             var classAndMethodSource = getMethodsSource(source, byName("<init>"));
             //find a field initialize inside constructors
             return classAndMethodSource.stream().flatMap(method -> {
-                return getScheduledMethodIdsFromMethodSource(beanType, source, method, touched).stream();
+                return getScheduledMethodIdsFromMethodSource(beanType, source, method, touched, bytecodeCache).stream();
             }).collect(toList());
         } else if (instruction instanceof GETSTATIC) {
             var classAndMethodSource = getMethodsSource(source, byName("<cinit>"));
             //find a field initialize inside constructors
             return classAndMethodSource.stream().flatMap(method -> {
-                return getScheduledMethodIdsFromMethodSource(beanType, source, method, touched).stream();
+                return getScheduledMethodIdsFromMethodSource(beanType, source, method, touched, bytecodeCache).stream();
             }).collect(toList());
         } else {
             return List.of();
@@ -366,8 +382,8 @@ public class SchedulingConfigurerUtils {
 
     private static List<MethodId> getMethodIds(Class<?> componentType,
                                                InstructionHandle instructionHandle,
-                                               ConstantPoolGen constantPoolGen,
-                                               Map<String, Set<MethodId>> touched) {
+                                               ConstantPoolGen constantPoolGen, Repository repository,
+                                               Map<String, Set<MethodId>> touched, BytecodeCache bytecodeCache) {
         var instruction = (InvokeInstruction) instructionHandle.getInstruction();
         var methodName = instruction.getMethodName(constantPoolGen);
         var type = instruction.getLoadClassType(constantPoolGen);
@@ -375,13 +391,15 @@ public class SchedulingConfigurerUtils {
         if (getType(componentType).equals(type)) {
             return List.of(newMethodId(methodName, argumentTypes));
         } else {
-            return getMethodIds(componentType, type.getClassName(), methodName, argumentTypes, touched);
+            return getMethodIds(componentType, type.getClassName(), methodName, argumentTypes, repository, touched,
+                    bytecodeCache);
         }
     }
 
     private static List<MethodId> getMethodIds(Class<?> componentType, INVOKEDYNAMIC invokedynamic,
                                                ConstantPoolGen constantPoolGen, BootstrapMethods bootstrapMethods,
-                                               Map<String, Set<MethodId>> touched) {
+                                               Repository repository, Map<String, Set<MethodId>> touched,
+                                               BytecodeCache bytecodeCache) {
         var methodInfo = getInvokeDynamicUsedMethodInfo(invokedynamic, constantPoolGen, bootstrapMethods);
         var methodName = methodInfo.getName();
         var methodInfoClassName = methodInfo.getClassName();
@@ -389,13 +407,14 @@ public class SchedulingConfigurerUtils {
         if (methodInfoClassName.equals(componentType.getName())) {
             return List.of(newMethodId(methodName, argumentTypes));
         } else {
-            return getMethodIds(componentType, methodInfo.getClassName(), methodName, argumentTypes, touched);
+            return getMethodIds(componentType, methodInfo.getClassName(), methodName, argumentTypes, repository,
+                    touched, bytecodeCache);
         }
     }
 
     private static List<MethodId> getMethodIds(Class<?> componentType, String className,
-                                               String methodName, Type[] argumentTypes,
-                                               Map<String, Set<MethodId>> touched) {
+                                               String methodName, Type[] argumentTypes, Repository repository,
+                                               Map<String, Set<MethodId>> touched, BytecodeCache bytecodeCache) {
         if (className.startsWith("java")) {
             return List.of();
         } else {
@@ -404,8 +423,9 @@ public class SchedulingConfigurerUtils {
                 //recursion detected
                 return List.of();
             }
-            var classAndMethodSource = getClassAndMethodSource(getClassByName(className), methodName, argumentTypes);
-            return getScheduledMethodIdsFromMethodSource(componentType, classAndMethodSource, touched);
+            var classAndMethodSource = getClassAndMethodSource(getClassByName(className), methodName, argumentTypes,
+                    repository);
+            return getScheduledMethodIdsFromMethodSource(componentType, classAndMethodSource, touched, bytecodeCache);
         }
     }
 
@@ -1,6 +1,8 @@
 package io.github.m4gshm.components.visualizer.client;
 
 import io.github.m4gshm.components.visualizer.eval.bytecode.Eval;
+import io.github.m4gshm.components.visualizer.eval.bytecode.EvalBudgetExceededException;
+import io.github.m4gshm.components.visualizer.eval.bytecode.EvalException;
 import io.github.m4gshm.components.visualizer.eval.bytecode.NotInvokedException;
 import io.github.m4gshm.components.visualizer.eval.result.DelayInvoke;
 import io.github.m4gshm.components.visualizer.eval.result.Resolver;
@@ -9,9 +11,11 @@ import io.github.m4gshm.components.visualizer.model.Component;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.bcel.classfile.BootstrapMethods;
 import org.apache.bcel.classfile.JavaClass;
+import org.apache.bcel.classfile.Method;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static java.util.stream.Collectors.toList;
 import static org.apache.bcel.Const.ATTR_BOOTSTRAP_METHODS;
@@ -19,7 +23,8 @@ import static org.apache.bcel.Const.ATTR_BOOTSTRAP_METHODS;
 @Slf4j
 public class Utils {
     static Collection<List<Result>> resolveInvokeParameters(Eval eval, DelayInvoke invoke, Component component,
-                                                            String methodName, Resolver resolver) {
+                                                            String methodName, Resolver resolver,
+                                                            boolean failFast) {
 
         return eval.withArgumentsStream().map(evalWithArgs -> {
             try {
@@ -27,10 +32,54 @@ public class Utils {
             } catch (NotInvokedException e) {
                 log.info("no call variants for {} inside {}", eval.getMethod().getName(), component.getName());
                 return List.<List<Result>>of();
+            } catch (EvalBudgetExceededException e) {
+                onBudgetExceeded(component, eval.getMethod(), e, failFast);
+                return resolveUnresolvedParameters(evalWithArgs, invoke, resolver, e);
             }
         }).flatMap(Collection::stream).collect(toList());
     }
 
+    /**
+     * Extracts the results of one call of the method. The call is skipped if its evaluation budget is exceeded, the
+     * other calls of the component are kept.
+     *
+     * @param failFast throws the budget exceeded error instead of skipping the call
+     */
+    static <T> List<T> extractCall(Component component, Method method, boolean failFast, Supplier<List<T>> extractor) {
+        try {
+            return extractor.get();
+        } catch (EvalBudgetExceededException e) {
+            onBudgetExceeded(component, method, e, failFast);
+            return List.of();
+        }
+    }
+
+    private static void onBudgetExceeded(Component component, Method method, EvalBudgetExceededException e,
+                                         boolean failFast) {
+        if (failFast) {
+            throw e;
+        }
+        log.info("evaluation budget exceeded for {} inside {}", method.getName(), component.getName());
+    }
+
+    /**
+     * @return one variant of the invoke parameters stubbed by the resolver or no variants if stubbing is not possible
+     */
+    static List<List<Result>> resolveUnresolvedParameters(Eval eval, DelayInvoke invoke, Resolver resolver,
+                                                          EvalBudgetExceededException e) {
+        if (resolver == null) {
+            return List.of();
+        }
+        try {
+            return List.of(invoke.getParameters().stream()
+                    .map(parameter -> parameter.isResolved() ? parameter : resolver.resolve(parameter, e, eval))
+                    .collect(toList()));
+        } catch (EvalException stubError) {
+            log.debug("unresolved parameters stubbing error, invoke {}", invoke, stubError);
+            return List.of();
+        }
+    }
+
     public static BootstrapMethods getBootstrapMethods(JavaClass javaClass) {
         return javaClass.getAttribute(ATTR_BOOTSTRAP_METHODS);
     }
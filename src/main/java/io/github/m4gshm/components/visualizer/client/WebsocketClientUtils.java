@@ -1,6 +1,8 @@
 package io.github.m4gshm.components.visualizer.client;
 
+import io.github.m4gshm.components.visualizer.eval.bytecode.ClassSourceRepository;
 import io.github.m4gshm.components.visualizer.eval.bytecode.EvalContextFactory;
+import io.github.m4gshm.components.visualizer.eval.bytecode.InvokeIndex.InvokeIndexProvider;
 import io.github.m4gshm.components.visualizer.eval.bytecode.NotInvokedException;
 import io.github.m4gshm.components.visualizer.eval.result.DelayInvoke;
 import io.github.m4gshm.components.visualizer.eval.result.Resolver;
@@ -24,37 +26,35 @@ import java.util.Collection;
 import java.util.List;
 import java.util.stream.Stream;
 
+import static io.github.m4gshm.components.visualizer.client.Utils.extractCall;
 import static io.github.m4gshm.components.visualizer.client.Utils.resolveInvokeParameters;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.getClassSources;
-import static io.github.m4gshm.components.visualizer.eval.bytecode.InstructionUtils.Mapper.ofClass;
-import static io.github.m4gshm.components.visualizer.eval.bytecode.InstructionUtils.instructions;
-import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toList;
-import static org.apache.bcel.Const.ATTR_BOOTSTRAP_METHODS;
 
 @Slf4j
 @UtilityClass
 public class WebsocketClientUtils {
-    public static List<String> extractWebsocketClientUris(Component component,
-                                                          EvalContextFactory evalContextFactory, Resolver resolver) {
-        var javaClasses = getClassSources(component.getType());
+    public static List<String> extractWebsocketClientUris(Component component, EvalContextFactory evalContextFactory,
+                                                          ClassSourceRepository classSourceRepository,
+                                                          InvokeIndexProvider invokeIndexProvider, Resolver resolver,
+                                                          boolean failFast) {
+        var javaClasses = getClassSources(component.getType(), classSourceRepository);
         return javaClasses.stream().flatMap(javaClass -> {
-            var constantPoolGen = new ConstantPoolGen(javaClass.getConstantPool());
-            var methods = javaClass.getMethods();
-            var bootstrapMethods = javaClass.<BootstrapMethods>getAttribute(ATTR_BOOTSTRAP_METHODS);
-            return stream(methods).flatMap(method -> instructions(method).flatMap(ofClass(INVOKEINTERFACE.class, (handle, invoke) -> {
-                var referenceType = invoke.getReferenceType(constantPoolGen);
-                var methodName = invoke.getMethodName(constantPoolGen);
-                var className = referenceType.getClassName();
-                if (WebSocketClient.class.getName().equals(className) && "doHandshake".equals(methodName)) try {
-                    return getDoHandshakeUri(component, handle, javaClass, constantPoolGen,
-                            bootstrapMethods, method, evalContextFactory, resolver).stream();
-                } catch (ClassNotFoundException | InvocationTargetException | NoSuchMethodException |
-                         IllegalAccessException e) {
-                    throw new RuntimeException(e);
-                }
-                else return Stream.of();
-            }, Stream::of)));
+            var invokeIndex = invokeIndexProvider.apply(javaClass);
+            var constantPoolGen = invokeIndex.getConstantPoolGen();
+            var bootstrapMethods = invokeIndex.getBootstrapMethods();
+            var invokes = invokeIndex.getInvokes(WebSocketClient.class.getName(), "doHandshake");
+            return invokes.stream().filter(invoke -> invoke.isInstanceOf(INVOKEINTERFACE.class)).flatMap(invoke -> {
+                return extractCall(component, invoke.getMethod(), failFast, () -> {
+                    try {
+                        return getDoHandshakeUri(component, invoke.getHandle(), javaClass, constantPoolGen,
+                                bootstrapMethods, invoke.getMethod(), evalContextFactory, resolver, failFast);
+                    } catch (ClassNotFoundException | InvocationTargetException | NoSuchMethodException |
+                             IllegalAccessException e) {
+                        throw new RuntimeException(e);
+                    }
+                }).stream();
+            });
         }).collect(toList());
     }
 
@@ -62,7 +62,7 @@ public class WebsocketClientUtils {
                                                   JavaClass javaClass, ConstantPoolGen constantPoolGen,
                                                   BootstrapMethods bootstrapMethods, Method method,
                                                   EvalContextFactory evalContextFactory,
-                                                  Resolver resolver
+                                                  Resolver resolver, boolean failFast
     ) throws ClassNotFoundException, InvocationTargetException, NoSuchMethodException, IllegalAccessException {
         log.trace("getDoHandshakeUri componentName {}", component.getName());
         var methodName = method.getName();
@@ -73,7 +73,7 @@ public class WebsocketClientUtils {
         }
         var eval = evalContextFactory.getEvalContext(component, javaClass, method, bootstrapMethods);
         var result = (DelayInvoke) eval.eval(instructionHandle);
-        var variants = resolveInvokeParameters(eval, result, component, methodName, resolver);
+        var variants = resolveInvokeParameters(eval, result, component, methodName, resolver, failFast);
 
         if (URI.class.getName().equals(argumentTypes[2].getClassName())) {
             return getUrls(variants, 3, resolver);
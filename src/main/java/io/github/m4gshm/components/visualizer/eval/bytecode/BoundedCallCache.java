@@ -0,0 +1,93 @@
+package io.github.m4gshm.components.visualizer.eval.bytecode;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.github.m4gshm.components.visualizer.eval.bytecode.Eval.CallCache;
+import io.github.m4gshm.components.visualizer.eval.result.Result;
+import io.github.m4gshm.components.visualizer.model.Component.ComponentKey;
+import lombok.EqualsAndHashCode;
+import lombok.experimental.FieldDefaults;
+import org.apache.bcel.classfile.Method;
+import org.apache.bcel.generic.Instruction;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Call results cache with one level key and least recently used entries eviction.
+ * The errors are not cached.
+ */
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public class BoundedCallCache implements CallCache {
+    Cache<Key, Result> results;
+    LongAdder puts = new LongAdder();
+
+    /**
+     * @param maxSize  max amount of cached calls, not bounded if negative
+     * @param weighted if true the max size limits the total weight of cached calls, where a call weight is the amount
+     *                 of the call parameter values
+     */
+    public BoundedCallCache(long maxSize, boolean weighted) {
+        var builder = CacheBuilder.newBuilder().recordStats();
+        if (maxSize < 0) {
+            this.results = builder.build();
+        } else if (weighted) {
+            this.results = builder.maximumWeight(maxSize)
+                    .weigher((Key key, Result result) -> getWeight(key.callKey)).build();
+        } else {
+            this.results = builder.maximumSize(maxSize).build();
+        }
+    }
+
+    private static int getWeight(CallCacheKey key) {
+        var parametersVariants = key.getParametersVariants();
+        return 1 + (parametersVariants == null ? 0
+                : parametersVariants.stream().filter(Objects::nonNull).mapToInt(Collection::size).sum());
+    }
+
+    @Override
+    public Result get(CallCacheKey key) {
+        return results.getIfPresent(new Key(key));
+    }
+
+    @Override
+    public void put(CallCacheKey key, Result result) {
+        results.put(new Key(key), result);
+        puts.increment();
+    }
+
+    @Override
+    public void put(CallCacheKey key, RuntimeException exception) {
+    }
+
+    @Override
+    public Stats getStats() {
+        var stats = results.stats();
+        return new Stats(stats.hitCount(), stats.missCount(), puts.sum(), stats.evictionCount());
+    }
+
+    public long size() {
+        return results.size();
+    }
+
+    @EqualsAndHashCode(cacheStrategy = EqualsAndHashCode.CacheStrategy.LAZY)
+    @FieldDefaults(makeFinal = true, level = PRIVATE)
+    static class Key {
+        ComponentKey componentKey;
+        Method method;
+        Instruction instruction;
+        CallCacheKey callKey;
+
+        Key(CallCacheKey callKey) {
+            var call = callKey.getCall();
+            var eval = call.getEval();
+            this.componentKey = eval.getComponentKey();
+            this.method = eval.getMethod();
+            this.instruction = call.getFirstInstruction().getInstruction();
+            this.callKey = callKey;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.m4gshm.components.visualizer.eval.bytecode;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import org.apache.bcel.classfile.JavaClass;
+import org.apache.bcel.classfile.Method;
+import org.apache.bcel.generic.ConstantPoolGen;
+import org.apache.bcel.generic.InstructionHandle;
+import org.apache.bcel.generic.InstructionList;
+
+import java.util.stream.Stream;
+
+import static io.github.m4gshm.components.visualizer.eval.bytecode.ClassCache.newClassCache;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.ClassCache.noClassCache;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.InvokeBranch.newTree;
+
+/**
+ * Decoded method instructions and class constant pools shared by all evaluations of an extraction.
+ * The same method is decoded once so instruction handles are comparable by identity between call points and evals.
+ * The entries are not evicted by size, a method is decoded again only after the method itself is collected, so the
+ * invoke indexes and invoke trees always refer to the same handles.
+ */
+public interface BytecodeCache {
+
+    static BytecodeCache noBytecodeCache() {
+        return new BytecodeCache() {
+            @Override
+            public InstructionList getInstructionList(Method method) {
+                return decode(method);
+            }
+
+            @Override
+            public ConstantPoolGen getConstantPoolGen(JavaClass javaClass) {
+                return new ConstantPoolGen(javaClass.getConstantPool());
+            }
+
+            @Override
+            public InvokeBranch getInvokeTree(Method method) {
+                return newTree(method, getInstructionList(method));
+            }
+
+            @Override
+            public ClassCache getClassCache() {
+                return noClassCache();
+            }
+        };
+    }
+
+    static BytecodeCache newBytecodeCache() {
+        //weak keys are compared by identity, bcel Method equality by name and signature is not applicable here
+        var instructions = newCacheBuilder().build(CacheLoader.from(BytecodeCache::decode));
+        var constantPools = newCacheBuilder().build(CacheLoader.from((JavaClass javaClass) -> {
+            return new ConstantPoolGen(javaClass.getConstantPool());
+        }));
+        var invokeTrees = newCacheBuilder().<Method, InvokeBranch>build().asMap();
+        var classCache = newClassCache();
+        return new BytecodeCache() {
+            @Override
+            public InstructionList getInstructionList(Method method) {
+                return instructions.getUnchecked(method);
+            }
+
+            @Override
+            public ConstantPoolGen getConstantPoolGen(JavaClass javaClass) {
+                return constantPools.getUnchecked(javaClass);
+            }
+
+            @Override
+            public InvokeBranch getInvokeTree(Method method) {
+                return invokeTrees.computeIfAbsent(method, m -> newTree(m, getInstructionList(m)));
+            }
+
+            @Override
+            public ClassCache getClassCache() {
+                return classCache;
+            }
+        };
+    }
+
+    private static CacheBuilder<Object, Object> newCacheBuilder() {
+        return CacheBuilder.newBuilder().weakKeys();
+    }
+
+    private static InstructionList decode(Method method) {
+        var code = method.getCode();
+        return code != null ? new InstructionList(code.getCode()) : new InstructionList();
+    }
+
+    InstructionList getInstructionList(Method method);
+
+    ConstantPoolGen getConstantPoolGen(JavaClass javaClass);
+
+    /**
+     * @return control flow branches tree of the method, the tree is not modified after building and is shared by all
+     * components of the method declaring class and its subclasses
+     */
+    InvokeBranch getInvokeTree(Method method);
+
+    /**
+     * @return classes loaded by names during the extraction
+     */
+    ClassCache getClassCache();
+
+    default Stream<InstructionHandle> instructions(Method method) {
+        return InstructionUtils.instructions(getInstructionList(method));
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.m4gshm.components.visualizer.eval.bytecode;
+
+import io.github.m4gshm.components.visualizer.model.CallPoint;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+import org.apache.bcel.generic.Type;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalContextFactoryImpl.getCalledMethodClass;
+import static java.util.Arrays.stream;
+import static java.util.stream.Collectors.joining;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Calls made by the methods of a component type, grouped by the called method name and arguments descriptor.
+ * The called method classes are resolved once on the index building.
+ */
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public class CallPointsIndex {
+    Map<Key, List<Call>> calls;
+    ClassCache classCache;
+
+    private CallPointsIndex(Map<Key, List<Call>> calls, ClassCache classCache) {
+        this.calls = calls;
+        this.classCache = classCache;
+    }
+
+    public static CallPointsIndex newCallPointsIndex(List<CallPoint> methodCallPoints, ClassCache classCache) {
+        var calls = new LinkedHashMap<Key, List<Call>>();
+        for (var dependentMethod : methodCallPoints) {
+            for (var calledMethod : dependentMethod.getCallPoints()) {
+                var calledMethodClass = getCalledMethodClass(calledMethod, classCache);
+                if (calledMethodClass != null) {
+                    var key = newKey(calledMethod.getMethodName(), calledMethod.getArgumentTypes());
+                    var cycled = isCycled(dependentMethod, calledMethod, calledMethodClass, classCache);
+                    calls.computeIfAbsent(key, k -> new ArrayList<>()).add(new Call(dependentMethod, calledMethod,
+                            calledMethodClass, cycled));
+                }
+            }
+        }
+        return new CallPointsIndex(calls, classCache);
+    }
+
+    private static boolean isCycled(CallPoint dependentMethod, CallPoint calledMethod, Class<?> calledMethodClass,
+                                    ClassCache classCache) {
+        var ownerClass = dependentMethod.getOwnerClass();
+        return ownerClass != null && classCache.isAssignableFrom(calledMethodClass, ownerClass)
+                && newKey(dependentMethod.getMethodName(), dependentMethod.getArgumentTypes())
+                .equals(newKey(calledMethod.getMethodName(), calledMethod.getArgumentTypes()));
+    }
+
+    private static Key newKey(String methodName, Type[] argumentTypes) {
+        var descriptor = argumentTypes != null
+                ? stream(argumentTypes).map(Type::getSignature).collect(joining())
+                : null;
+        return new Key(methodName, descriptor);
+    }
+
+    /**
+     * @return dependent methods with their not cycled calls of the method declared in the class or in its supertypes,
+     * in the order of the indexed call points
+     */
+    public Map<CallPoint, List<CallPoint>> getCallPoints(String methodName, Type[] argumentTypes,
+                                                         Class<?> declaringClass) {
+        var methodCalls = calls.get(newKey(methodName, argumentTypes));
+        if (methodCalls == null) {
+            return Map.of();
+        }
+        var result = new LinkedHashMap<CallPoint, List<CallPoint>>();
+        for (var call : methodCalls) {
+            if (!call.cycled && classCache.isAssignableFrom(call.calledMethodClass, declaringClass)) {
+                result.computeIfAbsent(call.dependentMethod, k -> new ArrayList<>()).add(call.calledMethod);
+            }
+        }
+        return result;
+    }
+
+    @Data
+    @FieldDefaults(makeFinal = true, level = PRIVATE)
+    private static class Key {
+        String methodName;
+        String argumentsDescriptor;
+    }
+
+    @Data
+    @FieldDefaults(makeFinal = true, level = PRIVATE)
+    private static class Call {
+        CallPoint dependentMethod;
+        CallPoint calledMethod;
+        Class<?> calledMethodClass;
+        boolean cycled;
+    }
+}
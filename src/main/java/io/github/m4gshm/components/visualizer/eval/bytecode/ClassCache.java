@@ -0,0 +1,87 @@
+package io.github.m4gshm.components.visualizer.eval.bytecode;
+
+import lombok.NonNull;
+import org.apache.bcel.generic.Type;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static io.github.m4gshm.components.visualizer.Utils.classByName;
+
+/**
+ * Classes loaded by names, including not found ones, and the assignability of class pairs.
+ * The cache is shared by all evaluations of an extraction, so the classes defined after the extraction are not missed
+ * by the next one.
+ */
+public interface ClassCache {
+
+    static ClassCache noClassCache() {
+        return new ClassCache() {
+            @Override
+            public Class<?> findClassByName(String className) {
+                return EvalUtils.findClassByName(className);
+            }
+
+            @Override
+            public Class<?> getClassByName(String className) {
+                return EvalUtils.getClassByName(className);
+            }
+
+            @Override
+            public boolean isAssignableFrom(Class<?> superType, Class<?> type) {
+                return superType.isAssignableFrom(type);
+            }
+        };
+    }
+
+    static ClassCache newClassCache() {
+        var classes = new ConcurrentHashMap<String, Optional<Class<?>>>();
+        var assignable = new ConcurrentHashMap<Class<?>, ConcurrentMap<Class<?>, Boolean>>();
+        return new ClassCache() {
+            @Override
+            public Class<?> findClassByName(String className) {
+                return classes.computeIfAbsent(className, name -> {
+                    try {
+                        return Optional.of(classByName(name));
+                    } catch (ClassNotFoundException e) {
+                        return Optional.empty();
+                    }
+                }).orElse(null);
+            }
+
+            @Override
+            public boolean isAssignableFrom(Class<?> superType, Class<?> type) {
+                return assignable.computeIfAbsent(superType, k -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(type, superType::isAssignableFrom);
+            }
+        };
+    }
+
+    /**
+     * @return the class or null if not found
+     */
+    Class<?> findClassByName(@NonNull String className);
+
+    boolean isAssignableFrom(Class<?> superType, Class<?> type);
+
+    default Class<?> getClassByName(@NonNull String className) {
+        var type = findClassByName(className);
+        if (type == null) {
+            throw new EvalException(new ClassNotFoundException(className));
+        }
+        return type;
+    }
+
+    default Class<?> toClass(String rawClassName) {
+        return getClassByName(rawClassName.replace("/", "."));
+    }
+
+    default Class<?>[] toClasses(Type[] types) {
+        var classes = new Class[types.length];
+        for (int i = 0; i < types.length; i++) {
+            classes[i] = toClass(types[i].getClassName());
+        }
+        return classes;
+    }
+}
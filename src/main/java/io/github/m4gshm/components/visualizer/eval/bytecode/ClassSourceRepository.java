@@ -0,0 +1,134 @@
+package io.github.m4gshm.components.visualizer.eval.bytecode;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+import org.apache.bcel.classfile.ClassParser;
+import org.apache.bcel.classfile.JavaClass;
+import org.apache.bcel.util.ClassPath;
+import org.apache.bcel.util.Repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+import static lombok.AccessLevel.PRIVATE;
+import static org.apache.bcel.classfile.Utility.pathToPackage;
+
+/**
+ * Thread-safe bcel classes repository, is used instead of the global {@link org.apache.bcel.Repository} during an
+ * extraction and is cleared after.
+ * The size limits only the recently loaded classes kept by the repository itself. A class beyond the limit is still
+ * returned while it is referenced by invoke indexes, call points or evals, so a class is parsed again only if nothing
+ * refers to its previous instance and identity based caches stay consistent.
+ */
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public class ClassSourceRepository implements Repository {
+    ClassPath classPath;
+    Cache<String, JavaClass> classes;
+    Cache<String, JavaClass> recent;
+
+    public ClassSourceRepository(@NonNull ClassPath classPath, long maxSize) {
+        this.classPath = classPath;
+        this.classes = CacheBuilder.newBuilder().weakValues().recordStats().build();
+        var recent = CacheBuilder.newBuilder();
+        this.recent = (maxSize >= 0 ? recent.maximumSize(maxSize) : recent).build();
+    }
+
+    /**
+     * @param maxSize max amount of parsed classes kept regardless of references, not bounded if negative
+     */
+    public static ClassSourceRepository newClassSourceRepository(long maxSize) {
+        return new ClassSourceRepository(ClassPath.SYSTEM_CLASS_PATH, maxSize);
+    }
+
+    private static String getSimpleName(String className) {
+        var i = className.lastIndexOf('.');
+        return i > 0 ? className.substring(i + 1) : className;
+    }
+
+    @Override
+    public void storeClass(JavaClass clazz) {
+        classes.put(clazz.getClassName(), clazz);
+        recent.put(clazz.getClassName(), clazz);
+        clazz.setRepository(this);
+    }
+
+    @Override
+    public void removeClass(JavaClass clazz) {
+        classes.invalidate(clazz.getClassName());
+        recent.invalidate(clazz.getClassName());
+    }
+
+    @Override
+    public JavaClass findClass(String className) {
+        return classes.getIfPresent(className);
+    }
+
+    @Override
+    public JavaClass loadClass(String className) throws ClassNotFoundException {
+        if (className == null || className.isEmpty()) {
+            throw new IllegalArgumentException("Invalid class name " + className);
+        }
+        var name = pathToPackage(className);
+        return load(name, () -> classPath.getInputStream(name));
+    }
+
+    @Override
+    public JavaClass loadClass(Class<?> clazz) throws ClassNotFoundException {
+        var className = clazz.getName();
+        return load(className, () -> clazz.getResourceAsStream(getSimpleName(className) + JavaClass.EXTENSION));
+    }
+
+    @Override
+    public ClassPath getClassPath() {
+        return classPath;
+    }
+
+    @Override
+    public void clear() {
+        recent.invalidateAll();
+        recent.cleanUp();
+        classes.invalidateAll();
+        classes.cleanUp();
+    }
+
+    public CacheStats getStats() {
+        return classes.stats();
+    }
+
+    public long size() {
+        return classes.size();
+    }
+
+    private JavaClass load(String className, Callable<InputStream> source) throws ClassNotFoundException {
+        try {
+            var javaClass = classes.get(className, () -> parse(className, source));
+            recent.put(className, javaClass);
+            return javaClass;
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof ClassNotFoundException) {
+                throw (ClassNotFoundException) cause;
+            }
+            throw new ClassNotFoundException("Exception while looking for class " + className + ": " + cause, cause);
+        }
+    }
+
+    private JavaClass parse(String className, Callable<InputStream> source) throws Exception {
+        try (var inputStream = source.call()) {
+            if (inputStream == null) {
+                throw new ClassNotFoundException("ClassRepository could not load " + className);
+            }
+            var javaClass = new ClassParser(inputStream, className).parse();
+            javaClass.setRepository(this);
+            return javaClass;
+        } catch (IOException e) {
+            throw new ClassNotFoundException("Exception while looking for class " + className + ": " + e, e);
+        }
+    }
+}
@@ -19,18 +19,23 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
 import static io.github.m4gshm.components.visualizer.ComponentsExtractorUtils.getDeclaredMethod;
+import static io.github.m4gshm.components.visualizer.ReflectionCache.trySetAccessible;
 import static io.github.m4gshm.components.visualizer.Utils.toLinkedHashSet;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.ArithmeticUtils.computeArithmetic;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.BytecodeCache.noBytecodeCache;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalException.newInvalidEvalException;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalException.newUnsupportedEvalException;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.*;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.InvokeDynamicUtils.getBootstrapMethodHandlerAndArguments;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.LocalVariableUtils.*;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.NotInvokedException.Reason.*;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalBudget.noEvalBudget;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.VariantsLimit.noVariantsLimit;
 import static io.github.m4gshm.components.visualizer.eval.result.Resolver.withEval;
 import static io.github.m4gshm.components.visualizer.eval.result.Result.*;
 import static io.github.m4gshm.components.visualizer.eval.result.TypeAware.getType;
@@ -44,6 +49,7 @@ import static java.util.Collections.singletonList;
 import static java.util.Comparator.comparingInt;
 import static java.util.stream.Collectors.*;
 import static java.util.stream.IntStream.range;
+import static java.util.stream.IntStream.rangeClosed;
 import static java.util.stream.Stream.*;
 import static lombok.AccessLevel.PRIVATE;
 import static org.apache.bcel.Const.*;
@@ -79,20 +85,45 @@ public class Eval {
     @Getter
     InvokeBranch tree;
     CallCache callCache;
+    @Getter
+    BytecodeCache bytecodeCache;
+    @Getter
+    EvalSettings settings;
+    VariantsLimit variantsLimit;
+    @Getter
+    EvalBudget budget;
+    //results of evaluated instructions by position, is null if the memoization is disabled
+    Map<Integer, Result> evalResults;
 
     public Eval(Component component, @NonNull JavaClass javaClass, @NonNull Method method,
                 BootstrapMethods bootstrapMethods, CallCache callCache, Collection<Map<Integer, Result>> argumentVariants,
                 Map<Integer, Result> arguments, InvokeBranch tree) {
+        this(component, javaClass, method, bootstrapMethods, callCache, noBytecodeCache(), argumentVariants, arguments,
+                tree, EvalSettings.DEFAULT, noEvalBudget());
+    }
+
+    /**
+     * @param budget evaluation budget of the method shared by all arguments variants
+     */
+    public Eval(Component component, @NonNull JavaClass javaClass, @NonNull Method method,
+                BootstrapMethods bootstrapMethods, CallCache callCache, @NonNull BytecodeCache bytecodeCache,
+                Collection<Map<Integer, Result>> argumentVariants, Map<Integer, Result> arguments, InvokeBranch tree,
+                @NonNull EvalSettings settings, @NonNull EvalBudget budget) {
         this.component = component;
         this.javaClass = javaClass;
-        this.constantPoolGen = new ConstantPoolGen(javaClass.getConstantPool());
+        this.constantPoolGen = bytecodeCache.getConstantPoolGen(javaClass);
         this.bootstrapMethods = bootstrapMethods;
         this.method = method;
         this.callCache = callCache;
+        this.bytecodeCache = bytecodeCache;
         this.methodCode = method.getCode();
         this.tree = tree;
         this.arguments = arguments;
         this.argumentVariants = argumentVariants;
+        this.settings = settings;
+        this.variantsLimit = settings.getVariantsLimit();
+        this.budget = budget;
+        this.evalResults = settings.isMemoize() ? new ConcurrentHashMap<>() : null;
     }
 
     private static Object convertNumberTo(Number number, Type convertTo) {
@@ -160,10 +191,9 @@ public class Eval {
         return stream.parallel().map(Collection::size).reduce(1, (l, r) -> l * r);
     }
 
-    private static List<List<Result>> flatResolvedVariants(
+    private static Stream<List<Result>> flatResolvedVariants(
             int dimensions, Collection<List<Result>> parameterVariants, Collection<Result> parameters) {
-        var resolvedVariants = new ArrayList<List<Result>>();
-        for (var d = 1; d <= dimensions; d++) {
+        return rangeClosed(1, dimensions).mapToObj(d -> {
             var variantOfParameters = new ArrayList<Result>();
             for (var variantsOfOneArgument : parameterVariants) {
                 var index = d <= variantsOfOneArgument.size() ? d - 1 : variantsOfOneArgument.size() % d - 1;
@@ -173,16 +203,14 @@ public class Eval {
                 throw new IllegalStateException("Expected " + parameters.size() + " parameters but got " +
                         variantOfParameters.size() + ", parameters: " + parameters);
             }
-            resolvedVariants.add(variantOfParameters);
-        }
-        return resolvedVariants;
+            return variantOfParameters;
+        });
     }
 
-    private static List<Map<Integer, List<Result>>> flatResolvedParamsVariants(
+    private static Stream<Map<Integer, List<Result>>> flatResolvedParamsVariants(
             int dimensions, Map<Integer, List<Result>> paramIndexToVariantsMap
     ) {
-        var resolvedVariants = new ArrayList<Map<Integer, List<Result>>>();
-        for (var d = 1; d <= dimensions; d++) {
+        return rangeClosed(1, dimensions).mapToObj(d -> {
             var paramIndexToVariantMap = new HashMap<Integer, List<Result>>();
             for (var index : paramIndexToVariantsMap.keySet()) {
                 var variantsOfOneArgument = paramIndexToVariantsMap.get(index);
@@ -190,10 +218,8 @@ public class Eval {
                 Result result = variantsOfOneArgument.get(i);
                 paramIndexToVariantMap.put(index, List.of(result));
             }
-            resolvedVariants.add(paramIndexToVariantMap);
-
-        }
-        return resolvedVariants;
+            return paramIndexToVariantMap;
+        });
     }
 
     public static List<Result> expand(Result result) {
@@ -231,7 +257,7 @@ public class Eval {
                                            boolean throwNoCall, Resolver resolver,
                                            BiFunction<List<ParameterValue>, InstructionHandle, Result> call) {
         var instruction = (InvokeInstruction) invoke.getFirstInstruction().getInstruction();
-        var objectClass = toClass(instruction.getClassName(eval.getConstantPoolGen()));
+        var objectClass = eval.getClassCache().toClass(instruction.getClassName(eval.getConstantPoolGen()));
         var parameterClasses = concat(ofNullable(objectClass), of(argumentClasses)).toArray(Class[]::new);
         return eval.callWithParameterVariants(invoke, parameterClasses, throwNoCall, resolver, call);
     }
@@ -246,10 +272,11 @@ public class Eval {
         return contextComponent.equals(unresolved.getComponent());
     }
 
-    private static List<List<Result>> getResolvedParameters(List<Result> parameters) {
+    private List<List<Result>> getResolvedParameters(List<Result> parameters) {
         var parameterVariants = parameters.stream().map(Eval::expand).collect(toList());
         int dimensions = getDimensions(parameterVariants);
-        return flatResolvedVariants(dimensions, parameterVariants, parameters);
+        var resolvedVariants = flatResolvedVariants(dimensions, parameterVariants, parameters);
+        return variantsLimit.collect(resolvedVariants, component, method);
     }
 
     private static InstructionHandle getLastStoreInstructionOfBranch(
@@ -315,32 +342,35 @@ public class Eval {
     protected static Set<Map<Integer, Result>> resolveArgumentVariants(Component component, @NonNull Method method,
                                                                        List<EvalArguments> argumentVariants,
                                                                        boolean isStatic, Resolver resolver) {
-        return argumentVariants.stream()/*.parallel()*/.map(arguments -> {
-            var evalContextArgsVariants = resolveEvalContextArgsVariants(component, method, arguments, isStatic, resolver);
-            return evalContextArgsVariants;
-        }).flatMap(Collection::stream).collect(toLinkedHashSet());
+        return resolveArgumentVariants(component, method, argumentVariants, isStatic, resolver, noVariantsLimit());
     }
 
-    private static Set<Map<Integer, Result>> resolveEvalContextArgsVariants(Component component, @NonNull Method method,
-                                                                            EvalArguments arguments, boolean isStatic,
-                                                                            Resolver resolver) {
-        var argVariants = resolveEvalContextArgs(arguments, isStatic, resolver).stream().flatMap(evalContextArgs -> {
+    protected static Set<Map<Integer, Result>> resolveArgumentVariants(Component component, @NonNull Method method,
+                                                                       List<EvalArguments> argumentVariants,
+                                                                       boolean isStatic, Resolver resolver,
+                                                                       VariantsLimit variantsLimit) {
+        var variants = argumentVariants.stream()/*.parallel()*/.flatMap(arguments -> {
+            return resolveEvalContextArgsVariants(arguments, isStatic, resolver);
+        });
+        return new LinkedHashSet<>(variantsLimit.collect(variants, component, method));
+    }
+
+    private static Stream<Map<Integer, Result>> resolveEvalContextArgsVariants(EvalArguments arguments,
+                                                                               boolean isStatic, Resolver resolver) {
+        return resolveEvalContextArgs(arguments, isStatic, resolver).stream().flatMap(evalContextArgs -> {
             int dimensions = evalContextArgs.values().stream()/*.parallel()*/
                     .map(r -> r instanceof Multiple ? ((Multiple) r).getResults().size() : 1)
                     .reduce(1, (l, r) -> l * r);
             if (dimensions == 1) {
                 return of(evalContextArgs);
             } else {
-                var evalContextArgsVariants = flatArgVariants(evalContextArgs, dimensions);
-                return evalContextArgsVariants.stream();
+                return flatArgVariants(evalContextArgs, dimensions);
             }
-        }).collect(toLinkedHashSet());
-        return argVariants;
+        });
     }
 
-    private static Set<Map<Integer, Result>> flatArgVariants(Map<Integer, Result> evalContextArgs, int dimensions) {
-        var evalContextArgsVariants = new LinkedHashSet<Map<Integer, Result>>();
-        for (var d = 1; d <= dimensions; d++) {
+    private static Stream<Map<Integer, Result>> flatArgVariants(Map<Integer, Result> evalContextArgs, int dimensions) {
+        return rangeClosed(1, dimensions).mapToObj(d -> {
             var variant = new LinkedHashMap<Integer, Result>();
             for (var paramIndex : evalContextArgs.keySet()) {
                 var arg = evalContextArgs.get(paramIndex);
@@ -354,9 +384,8 @@ public class Eval {
                     variant.put(paramIndex, arg);
                 }
             }
-            evalContextArgsVariants.add(variant);
-        }
-        return evalContextArgsVariants;
+            return variant;
+        });
     }
 
     private static Set<Map<Integer, Result>> resolveEvalContextArgs(EvalArguments arguments, boolean isStatic, Resolver resolver) {
@@ -464,8 +493,10 @@ public class Eval {
         var allVariants = new LinkedHashSet<List<Result>>();
         var paramIndexToVariantsMap = groupedParamsByBranch.getOrDefault(branch, Map.of());
         int dimensions = getDimensions(paramIndexToVariantsMap.values());
-        var resolvedParamsVariants = flatResolvedParamsVariants(dimensions, paramIndexToVariantsMap);
-        for (var resolvedParamsVariant : resolvedParamsVariants) {
+        var resolvedParamsVariants = flatResolvedParamsVariants(dimensions, paramIndexToVariantsMap).iterator();
+        var truncated = false;
+        while (!truncated && resolvedParamsVariants.hasNext()) {
+            var resolvedParamsVariant = resolvedParamsVariants.next();
             var variants = populateVariants(firstVariant, canOverwrite, resolvedParamsVariant, popMask);
 
 //            cardinality = popMask.cardinality();
@@ -476,18 +507,19 @@ public class Eval {
 //            if (full) {
 //            allVariants.addAll(variants.stream().map(a -> new ArrayList<>(Arrays.asList(a))).collect(toLinkedHashSet()));
 //            } else if (partial && nextSize == 0) {
-            allVariants.addAll(variants.stream().map(a -> new ArrayList<>(Arrays.asList(a))).collect(toLinkedHashSet()));
+            truncated = variantsLimit.addAll(allVariants, variants.stream()
+                    .map(a -> new ArrayList<>(Arrays.asList(a))).collect(toLinkedHashSet()), component, method);
 //            }
             var next = branch.getNext();
             int nextSize = next.size();
-            for (int i = 0; i < nextSize; i++) {
+            for (int i = 0; !truncated && i < nextSize; i++) {
                 var invokeBranch = next.get(i);
                 boolean firstBranch = i == 0;
                 var nextVariants = variants.stream().flatMap(v -> combineVariants(invoke, invokeBranch, v.clone(),
                                 true, groupedParamsByBranch).stream())
                         .collect(toLinkedHashSet());
 //                var nextVariants = combineVariants(invoke, invokeBranch, firstVariant, groupedParamsByBranch);
-                allVariants.addAll(nextVariants);
+                truncated = variantsLimit.addAll(allVariants, nextVariants, component, method);
             }
         }
         return allVariants;
@@ -509,6 +541,10 @@ public class Eval {
         return javaClass.getClassName();
     }
 
+    public ClassCache getClassCache() {
+        return bytecodeCache.getClassCache();
+    }
+
     @Override
     public String toString() {
         return "Eval{" +
@@ -518,6 +554,31 @@ public class Eval {
     }
 
     public Result eval(InstructionHandle instructionHandle) {
+        budget.enter();
+        try {
+            return evalMemoized(instructionHandle);
+        } finally {
+            budget.exit();
+        }
+    }
+
+    private Result evalMemoized(InstructionHandle instructionHandle) {
+        if (evalResults == null) {
+            return evalInstruction(instructionHandle);
+        }
+        var position = instructionHandle.getPosition();
+        var cached = evalResults.get(position);
+        if (cached != null) {
+            return cached;
+        }
+        //computeIfAbsent is not applicable here, the evaluation is recursive
+        var result = evalInstruction(instructionHandle);
+        var exists = evalResults.putIfAbsent(position, result);
+        return exists != null ? exists : result;
+    }
+
+    private Result evalInstruction(InstructionHandle instructionHandle) {
+        budget.visit();
         var instruction = instructionHandle.getInstruction();
 
         var consumeStack = instruction.consumeStack(constantPoolGen);
@@ -526,7 +587,7 @@ public class Eval {
             var ldc = (LDC) instruction;
             var value = ldc.getValue(constantPoolGen);
             if (value instanceof Type) {
-                value = getClassByName(((Type) value).getClassName());
+                value = getClassCache().getClassByName(((Type) value).getClassName());
             }
             return constant(value, ldc.getType(constantPoolGen), instructionHandle, instructionHandle, this, List.of());
         } else if (instruction instanceof LDC2_W) {
@@ -597,7 +658,7 @@ public class Eval {
             var getStatic = (GETSTATIC) instruction;
             var fieldName = getStatic.getFieldName(constantPoolGen);
             var loadClassType = getStatic.getLoadClassType(constantPoolGen);
-            var loadClass = getClassByName(loadClassType.getClassName());
+            var loadClass = getClassCache().getClassByName(loadClassType.getClassName());
             return getFieldValue(null, loadClass, fieldName, instructionHandle, instructionHandle, null, this);
         } else if (instruction instanceof GETFIELD) {
             var getField = (GETFIELD) instruction;
@@ -626,7 +687,7 @@ public class Eval {
             return delay(instructionText, instructionHandle, lastInstruction, arrayType, this, relations,
                     (thisDelay, eval, resolver) -> {
                         var loadClassType = anewarray.getLoadClassType(this.getConstantPoolGen());
-                        var arrayElementType = getClassByName(loadClassType.getClassName());
+                        var arrayElementType = getClassCache().getClassByName(loadClassType.getClassName());
                         Object value = Array.newInstance(arrayElementType, (int) size.getValue());
                         return constant(value, loadClassType, instructionHandle, lastInstruction, this, asList(thisDelay, size));
                     });
@@ -695,7 +756,7 @@ public class Eval {
             var newInstanceType = newInstance.getType(constantPoolGen);
             return delay(instructionText, instructionHandle, instructionHandle, newInstanceType, this,
                     List.of(), (thisDelay, eval, resolver) -> {
-                        var type = getClassByName(loadClassType.getClassName());
+                        var type = getClassCache().getClassByName(loadClassType.getClassName());
                         return instantiateObject(instructionHandle, type, new Class[0], new Object[0], thisDelay, this);
                     });
         } else if (instruction instanceof DUP) {
@@ -818,11 +879,11 @@ public class Eval {
         var className = instruction.getClassName(constantPoolGen);
         return delayInvoke(instructionHandle, loadClassType, this, invokeObject, className, methodName,
                 arguments, (thisDelay, eval, resolver) -> {
-                    var argumentClasses = toClasses(argumentTypes);
+                    var argumentClasses = getClassCache().toClasses(argumentTypes);
                     return callInvokeSpecial(thisDelay, argumentClasses, eval, true, resolver,
                             (parameters, lastInstruction) -> {
                                 var lookup = MethodHandles.lookup();
-                                var objectClass = getClassByName(instruction.getClassName(constantPoolGen));
+                                var objectClass = getClassCache().getClassByName(className);
                                 var signature = invokeSpec.getSignature(constantPoolGen);
                                 var methodType = fromMethodDescriptorString(signature, objectClass.getClassLoader());
                                 var paramValues = getValues(parameters);
@@ -833,8 +894,11 @@ public class Eval {
                                             thisDelay, this);
                                 } else {
                                     var privateLookup = InvokeDynamicUtils.getPrivateLookup(objectClass, lookup);
-                                    var methodHandle = getMethodHandle(() -> privateLookup.findSpecial(objectClass,
-                                            methodName, methodType, objectClass));
+                                    var methodHandle = MethodHandleCache.getMethodHandle(privateLookup, objectClass,
+                                            methodName, methodType, REF_invokeSpecial, () -> getMethodHandle(() -> {
+                                                return privateLookup.findSpecial(objectClass, methodName,
+                                                        methodType, objectClass);
+                                            }));
                                     return invoke(methodHandle, paramValues, instructionHandle, lastInstruction,
                                             loadClassType, this, parameters);
                                 }
@@ -849,10 +913,10 @@ public class Eval {
         var className = instruction.getClassName(constantPoolGen);
         return delayInvoke(instructionHandle, invokeResultType, this, null,
                 className, methodName, arguments, (thisDelay, eval, resolver) -> {
-                    var argumentClasses = toClasses(argumentTypes);
+                    var argumentClasses = getClassCache().toClasses(argumentTypes);
                     return callInvokeStatic(thisDelay, argumentClasses, eval, true,
                             resolver, (parameters, lastInstruction) -> {
-                                var objectClass = toClass(className);
+                                var objectClass = getClassCache().toClass(className);
                                 return callMethod(null, objectClass, methodName, argumentClasses,
                                         getValues(parameters), instructionHandle, lastInstruction,
                                         invokeResultType, constantPoolGen, thisDelay, parameters, this);
@@ -870,7 +934,7 @@ public class Eval {
         var methodName = sourceMethodInfo != null ? sourceMethodInfo.getName() : null;
         return delayInvoke(instructionHandle, invokeResultType, this, null, className, methodName,
                 arguments, (thisDelay, eval, resolver) -> {
-                    var argumentClasses = toClasses(argumentTypes);
+                    var argumentClasses = getClassCache().toClasses(argumentTypes);
                     return callInvokeDynamic(thisDelay, argumentClasses, eval, true, resolver,
                             (parameters, lastInstruction) -> {
                                 var handler = bootstrapMethodAndArguments.getHandler();
@@ -889,13 +953,13 @@ public class Eval {
         var className = instruction.getClassName(constantPoolGen);
         return delayInvoke(instructionHandle, invokeResultType, this, invokeObject, className, methodName,
                 arguments, (thisDelay, eval, resolver) -> {
-                    var argumentClasses = toClasses(argumentTypes);
+                    var argumentClasses = getClassCache().toClasses(argumentTypes);
                     return callInvokeVirtual(thisDelay, argumentClasses, eval, true, resolver,
                             (parameters, lastInstruction) -> {
                                 var paramValues = getValues(parameters);
                                 var object = paramValues[0];
                                 var argValues = copyOfRange(paramValues, 1, paramValues.length);
-                                var objectClass = toClass(instruction.getClassName(constantPoolGen));
+                                var objectClass = getClassCache().toClass(instruction.getClassName(constantPoolGen));
                                 return callMethod(object, objectClass, instruction.getMethodName(constantPoolGen),
                                         argumentClasses, argValues, instructionHandle, lastInstruction,
                                         invokeResultType, constantPoolGen, thisDelay, parameters, this);
@@ -1138,7 +1202,7 @@ public class Eval {
                     groupedVariants1 = groupByInvokeBranchResolvedParamVariants(invoke, parameterVariants, parameters);
                 }
                 var resolvedVariants = flatResolvedVariants(dimensions, parameterVariants, parameters);
-                return resolvedVariants;
+                return variantsLimit.collect(resolvedVariants, component, method);
             default:
                 var groupedVariants = groupByInvokeBranchResolvedParamVariants(invoke, parameterVariants, parameters);
                 return groupedVariants;
@@ -1314,7 +1378,7 @@ public class Eval {
             log.info("{}, method not found '{}.{}', instruction {}", msg, objectClass.getName(), methodName,
                     EvalUtils.toString(invokeInstruction, constantPoolGen));
             return notFound(methodName, invokeInstruction, invoke, eval);
-        } else if (!declaredMethod.trySetAccessible()) {
+        } else if (!trySetAccessible(declaredMethod)) {
             log.warn("{}, method is not accessible, method '{}.{}', instruction {}", msg, objectClass.getName(), methodName,
                     EvalUtils.toString(invokeInstruction, constantPoolGen));
             return notAccessible(declaredMethod, invokeInstruction, invoke, eval);
@@ -1375,8 +1439,9 @@ public class Eval {
                     var delay = (Delay) value;
                     var delayEval = delay.getEval();
                     state(this.equals(delayEval), "unexpected eval");
+                    budget.check();
                     result = delay.getDelayed(this, resolver);
-                } catch (UnresolvedVariableException e) {
+                } catch (UnresolvedVariableException | EvalBudgetExceededException e) {
                     result = resolveOrThrow(value, resolver, e);
                 }
             } else if (value instanceof Duplicate) {
@@ -1401,7 +1466,8 @@ public class Eval {
     }
 
     private Eval withArguments(Map<Integer, Result> arguments) {
-        return new Eval(component, javaClass, method, bootstrapMethods, callCache, argumentVariants, arguments, tree);
+        return new Eval(component, javaClass, method, bootstrapMethods, callCache, bytecodeCache, argumentVariants,
+                arguments, tree, settings, budget);
     }
 
     public Eval withArguments(int firstIndex, List<Result> arguments) {
@@ -1413,7 +1479,8 @@ public class Eval {
     }
 
     public Eval withArgumentVariants(Set<Map<Integer, Result>> argumentVariants) {
-        return new Eval(component, javaClass, method, bootstrapMethods, callCache, argumentVariants, null, tree);
+        return new Eval(component, javaClass, method, bootstrapMethods, callCache, bytecodeCache, argumentVariants,
+                null, tree, settings, budget);
     }
 
     public List<EvalArguments> evalArguments(InstructionHandle instructionHandle, int argumentsAmount) {
@@ -1579,6 +1646,9 @@ public class Eval {
 
         static CallCache newCallCache() {
             var grainedCache = new ConcurrentHashMap<ComponentKey, Map<Method, Map<Instruction, Map<CallCacheKey, Result>>>>();
+            var hits = new LongAdder();
+            var misses = new LongAdder();
+            var puts = new LongAdder();
             return new CallCache() {
                 @Override
                 public Result get(CallCacheKey key) {
@@ -1597,7 +1667,9 @@ public class Eval {
                     var perMethod = grainedCache.computeIfAbsent(componentKey, k -> new ConcurrentHashMap<>());
                     var perInstruction = perMethod.computeIfAbsent(method1, k -> new ConcurrentHashMap<>());
                     var perKey = perInstruction.computeIfAbsent(instruction, k -> new ConcurrentHashMap<>());
-                    return perKey.get(key);
+                    var result = perKey.get(key);
+                    (result != null ? hits : misses).increment();
+                    return result;
 //                    return success.get(key);
                 }
 
@@ -1612,12 +1684,18 @@ public class Eval {
                     var perInstruction = perMethod.computeIfAbsent(method1, k -> new ConcurrentHashMap<>());
                     var perKey = perInstruction.computeIfAbsent(instruction, k -> new ConcurrentHashMap<>());
                     perKey.put(key, result);
+                    puts.increment();
 //                    success.put(key, result);
                 }
 
                 @Override
                 public void put(CallCacheKey key, RuntimeException exception) {
                 }
+
+                @Override
+                public Stats getStats() {
+                    return new Stats(hits.sum(), misses.sum(), puts.sum(), 0);
+                }
             };
         }
 
@@ -1626,6 +1704,27 @@ public class Eval {
         void put(CallCacheKey key, Result result);
 
         void put(CallCacheKey key, RuntimeException exception);
+
+        /**
+         * @param maxSize  max amount of cached calls, not bounded if negative
+         * @param weighted if true the max size limits the total amount of cached calls parameter values
+         */
+        static CallCache newBoundedCallCache(long maxSize, boolean weighted) {
+            return new BoundedCallCache(maxSize, weighted);
+        }
+
+        default Stats getStats() {
+            return new Stats(0, 0, 0, 0);
+        }
+
+        @Data
+        @FieldDefaults(makeFinal = true, level = PRIVATE)
+        class Stats {
+            long hitCount;
+            long missCount;
+            long putCount;
+            long evictionCount;
+        }
     }
 
     @Data
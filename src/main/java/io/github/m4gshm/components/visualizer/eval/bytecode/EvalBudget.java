@@ -0,0 +1,151 @@
+package io.github.m4gshm.components.visualizer.eval.bytecode;
+
+import io.github.m4gshm.components.visualizer.model.Component;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+import org.apache.bcel.classfile.Method;
+
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Amount of evaluated instructions and evaluation time of one method shared by all arguments variants of the method.
+ * Once the budget is exceeded, the remaining calls of the method are not evaluated and are resolved as unresolved
+ * by the resolver.
+ */
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public class EvalBudget {
+    private static final EvalBudget NO_BUDGET = new EvalBudget(null, null, Limits.noLimits());
+    private static final int TIME_CHECK_INTERVAL = 64;
+    //measured budgets entered by the current thread, nested entries of a budget are measured by the outer one
+    private static final ThreadLocal<Map<EvalBudget, Entry>> entered = ThreadLocal.withInitial(IdentityHashMap::new);
+
+    Component component;
+    Method method;
+    Limits limits;
+    AtomicLong instructions = new AtomicLong();
+    AtomicLong elapsedTime = new AtomicLong();
+    AtomicBoolean exceeded = new AtomicBoolean();
+
+    private EvalBudget(Component component, Method method, Limits limits) {
+        this.component = component;
+        this.method = method;
+        this.limits = limits;
+    }
+
+    public static EvalBudget noEvalBudget() {
+        return NO_BUDGET;
+    }
+
+    /**
+     * Starts measuring of the method evaluation time by the current thread, must be paired with {@link #exit()}.
+     */
+    public void enter() {
+        if (limits.maxTime == null) {
+            return;
+        }
+        var entry = entered.get().computeIfAbsent(this, k -> new Entry());
+        if (entry.depth++ == 0) {
+            entry.start = System.nanoTime();
+        }
+    }
+
+    /**
+     * Adds the time since the outer {@link #enter()} of the current thread to the accumulated evaluation time.
+     */
+    public void exit() {
+        if (limits.maxTime == null) {
+            return;
+        }
+        var entries = entered.get();
+        var entry = entries.get(this);
+        if (entry != null && --entry.depth == 0) {
+            entries.remove(this);
+            elapsedTime.addAndGet(System.nanoTime() - entry.start);
+        }
+    }
+
+    /**
+     * Counts an evaluated instruction.
+     *
+     * @throws EvalBudgetExceededException if the budget is exceeded
+     */
+    public void visit() {
+        if (!limits.isLimited()) {
+            return;
+        }
+        check();
+        var visited = instructions.incrementAndGet();
+        var maxInstructions = limits.maxInstructions;
+        if (maxInstructions >= 0 && visited > maxInstructions) {
+            exceed();
+        }
+        var maxTime = limits.maxTime;
+        if (maxTime != null && visited % TIME_CHECK_INTERVAL == 0) {
+            var entry = entered.get().get(this);
+            var running = entry != null ? System.nanoTime() - entry.start : 0;
+            if (elapsedTime.get() + running > maxTime.toNanos()) {
+                exceed();
+            }
+        }
+    }
+
+    /**
+     * @throws EvalBudgetExceededException if the budget is exceeded
+     */
+    public void check() {
+        if (exceeded.get()) {
+            throw new EvalBudgetExceededException(method);
+        }
+    }
+
+    private void exceed() {
+        if (exceeded.compareAndSet(false, true)) {
+            limits.listener.onExceeded(component, method);
+        }
+        throw new EvalBudgetExceededException(method);
+    }
+
+    private static class Entry {
+        int depth;
+        long start;
+    }
+
+    public interface ExceededListener {
+        void onExceeded(Component component, Method method);
+    }
+
+    @Data
+    @FieldDefaults(makeFinal = true, level = PRIVATE)
+    public static class Limits {
+        private static final Limits NO_LIMITS = new Limits(-1, null, (component, method) -> {
+        });
+
+        /**
+         * Max amount of evaluated instructions per method, not limited if negative.
+         */
+        long maxInstructions;
+        /**
+         * Max evaluation time per method accumulated from all evaluation entries of the method, not limited if null.
+         */
+        Duration maxTime;
+        ExceededListener listener;
+
+        public static Limits noLimits() {
+            return NO_LIMITS;
+        }
+
+        public boolean isLimited() {
+            return maxInstructions >= 0 || maxTime != null;
+        }
+
+        public EvalBudget newEvalBudget(Component component, Method method) {
+            return isLimited() ? new EvalBudget(component, method, this) : noEvalBudget();
+        }
+    }
+}
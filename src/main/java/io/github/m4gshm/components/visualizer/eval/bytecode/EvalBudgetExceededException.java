@@ -0,0 +1,24 @@
+package io.github.m4gshm.components.visualizer.eval.bytecode;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.bcel.classfile.Method;
+
+@Slf4j
+@Getter
+public class EvalBudgetExceededException extends EvalException {
+    private final Method method;
+
+    public EvalBudgetExceededException(Method method) {
+        super("evaluation budget exceeded, method " + method.getName());
+        this.method = method;
+    }
+
+    /**
+     * Thrown on each call of an exceeded method, so the trace is filled only for debugging.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return log.isDebugEnabled() ? super.fillInStackTrace() : this;
+    }
+}
@@ -11,17 +11,27 @@ import org.apache.bcel.classfile.Method;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 @FieldDefaults(makeFinal = true)
 public class EvalContextFactoryCacheImpl extends EvalContextFactoryImpl {
     ConcurrentMap<Key, Eval> emptyCache = new ConcurrentHashMap<>();
     ConcurrentMap<Key, Eval> argVariantsCache = new ConcurrentHashMap<>();
+    LongAdder hits = new LongAdder();
+    LongAdder misses = new LongAdder();
 
     public EvalContextFactoryCacheImpl(Eval.CallCache callCache, DependentProvider dependentProvider,
                                        CallPointsHelper.CallPointsProvider callPointsProvider, Resolver resolver) {
         super(callCache, dependentProvider, callPointsProvider, resolver);
     }
 
+    public EvalContextFactoryCacheImpl(Eval.CallCache callCache, BytecodeCache bytecodeCache,
+                                       DependentProvider dependentProvider,
+                                       CallPointsHelper.CallPointsProvider callPointsProvider, Resolver resolver,
+                                       EvalSettings settings) {
+        super(callCache, bytecodeCache, dependentProvider, callPointsProvider, resolver, settings);
+    }
+
     @Override
     public Eval getEvalContext(Component component, JavaClass javaClass, Method method, BootstrapMethods bootstrapMethods) {
         var key = new Key(component, method);
@@ -29,26 +39,38 @@ public class EvalContextFactoryCacheImpl extends EvalContextFactoryImpl {
 
         var fullInit = argVariantsCache.get(key);
         if (fullInit != null) {
+            hits.increment();
             return fullInit;
         } else if (empty != null) {
+            hits.increment();
             return empty;
         }
 
+        misses.increment();
         return super.getEvalContext(component, javaClass, method, bootstrapMethods);
     }
 
+    //computeIfAbsent is not applicable here, argument variants evaluation recursively requests eval contexts
     @Override
     protected Eval newEmptyEvalContext(Component component, JavaClass javaClass, Method method, BootstrapMethods bootstrapMethods) {
         var eval = super.newEmptyEvalContext(component, javaClass, method, bootstrapMethods);
-        emptyCache.put(new Key(component, method), eval);
-        return eval;
+        var exists = emptyCache.putIfAbsent(new Key(component, method), eval);
+        return exists != null ? exists : eval;
     }
 
     @Override
     protected Eval withArgumentsVariants(Component component, Method method, Eval emptyEval) {
         var eval = super.withArgumentsVariants(component, method, emptyEval);
-        argVariantsCache.put(new Key(component, method), eval);
-        return eval;
+        var exists = argVariantsCache.putIfAbsent(new Key(component, method), eval);
+        return exists != null ? exists : eval;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
     }
 
     @Data
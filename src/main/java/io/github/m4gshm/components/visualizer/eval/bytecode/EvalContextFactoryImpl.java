@@ -7,6 +7,7 @@ import io.github.m4gshm.components.visualizer.eval.result.Result;
 import io.github.m4gshm.components.visualizer.eval.result.Variable;
 import io.github.m4gshm.components.visualizer.model.CallPoint;
 import io.github.m4gshm.components.visualizer.model.Component;
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
@@ -16,15 +17,20 @@ import org.apache.bcel.classfile.Method;
 import org.apache.bcel.generic.Type;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static io.github.m4gshm.components.visualizer.CallPointsHelper.CallPointsProvider;
 import static io.github.m4gshm.components.visualizer.Utils.warnDuplicated;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.BytecodeCache.noBytecodeCache;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.Eval.resolveArgumentVariants;
-import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.findClassByName;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.stringForLog;
-import static io.github.m4gshm.components.visualizer.eval.bytecode.InvokeBranch.newTree;
 import static java.util.Map.entry;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
@@ -37,17 +43,39 @@ import static lombok.AccessLevel.PROTECTED;
 public class EvalContextFactoryImpl implements EvalContextFactory {
 
     CallCache callCache;
+    BytecodeCache bytecodeCache;
     DependentProvider dependentProvider;
     CallPointsProvider callPointsProvider;
     Resolver resolver;
+    @NonNull
+    EvalSettings settings;
+
+    public EvalContextFactoryImpl(CallCache callCache, DependentProvider dependentProvider,
+                                  CallPointsProvider callPointsProvider, Resolver resolver) {
+        this(callCache, noBytecodeCache(), dependentProvider, callPointsProvider, resolver, EvalSettings.DEFAULT);
+    }
 
     public static List<EvalArguments> computeArgumentVariants(Component component, Method method,
                                                               EvalContextFactory evalContextFactory,
                                                               DependentProvider dependentProvider,
                                                               CallPointsProvider callPointsProvider) {
+        return computeArgumentVariants(component, method, evalContextFactory, dependentProvider, callPointsProvider,
+                null);
+    }
+
+    /**
+     * @param executor evaluates call points in parallel if not null, the result order is the same as sequential one
+     */
+    public static List<EvalArguments> computeArgumentVariants(Component component, Method method,
+                                                              EvalContextFactory evalContextFactory,
+                                                              DependentProvider dependentProvider,
+                                                              CallPointsProvider callPointsProvider,
+                                                              Executor executor) {
         var methodCallPoints = getCallPoints(component, method.getName(), method.getArgumentTypes(),
                 dependentProvider, callPointsProvider);
-        var methodArgumentVariants = getEvalCallPointVariants(component, method, methodCallPoints, evalContextFactory);
+        var methodArgumentVariants = executor != null
+                ? getEvalCallPointVariants(component, method, methodCallPoints, evalContextFactory, executor)
+                : getEvalCallPointVariants(component, method, methodCallPoints, evalContextFactory);
         var variants = methodArgumentVariants.values().stream()/*.parallel()*/
                 .map(Map::entrySet)
                 .flatMap(Collection::stream)
@@ -75,20 +103,18 @@ public class EvalContextFactoryImpl implements EvalContextFactory {
     ) {
         return dependentOnThisComponent.stream()/*.parallel()*/.map(dependentComponent -> {
             var dependentComponentType = dependentComponent.getType();
-            var callPoints = callPointsProvider.apply(dependentComponentType);
-            var callersWithVariants = callPoints.stream().map(dependentMethod -> {
-                var matchedCallPoints = getMatchedCallPoints(dependentMethod, methodName, argumentTypes, declaringClass);
-                if (!matchedCallPoints.isEmpty() && log.isDebugEnabled()) {
+            var callersWithVariants = callPointsProvider.getCallPointsIndex(dependentComponentType)
+                    .getCallPoints(methodName, argumentTypes, declaringClass);
+            if (log.isDebugEnabled()) {
+                callersWithVariants.forEach((dependentMethod, matchedCallPoints) -> {
                     var first = matchedCallPoints.get(0);
                     log.debug("match call point of {}.{}({}) inside {}.{}({}) as first call of {}.{}({})",
                             declaringClass.getName(), methodName, stringForLog(argumentTypes),
                             ownerClassName(dependentMethod), dependentMethod.getMethodName(),
                             stringForLog(dependentMethod.getArgumentTypes()),
                             ownerClassName(first), first.getMethodName(), stringForLog(first.getArgumentTypes()));
-                }
-                return entry(dependentMethod, matchedCallPoints);
-            }).filter(e -> !e.getValue().isEmpty()).collect(toMap(Map.Entry::getKey, Map.Entry::getValue,
-                    warnDuplicated(), LinkedHashMap::new));
+                });
+            }
             return !callersWithVariants.isEmpty() ? entry(dependentComponent, callersWithVariants) : null;
         }).filter(Objects::nonNull).collect(toMap(Map.Entry::getKey, Map.Entry::getValue, warnDuplicated(), LinkedHashMap::new));
     }
@@ -114,6 +140,84 @@ public class EvalContextFactoryImpl implements EvalContextFactory {
         }).collect(toMap(Map.Entry::getKey, Map.Entry::getValue, warnDuplicated(), LinkedHashMap::new));
     }
 
+    static Map<Component, Map<CallPoint, List<EvalArguments>>> getEvalCallPointVariants(
+            Component component, Method method, Map<Component, Map<CallPoint, List<CallPoint>>> callPoints,
+            EvalContextFactory evalContextFactory, Executor executor
+    ) {
+        var cancelled = new AtomicBoolean();
+        var tasks = new LinkedHashMap<Component,
+                Map<CallPoint, FutureTask<Map.Entry<CallPoint, List<EvalArguments>>>>>();
+        for (var e : callPoints.entrySet()) {
+            var dependentComponent = e.getKey();
+            var callPointTasks = tasks.computeIfAbsent(dependentComponent, k -> new LinkedHashMap<>());
+            for (var ee : e.getValue().entrySet()) {
+                var task = new FutureTask<>(() -> {
+                    if (cancelled.get()) {
+                        throw new CancellationException();
+                    }
+                    return getCallPointListEntry(component, method, evalContextFactory,
+                            ee.getKey(), dependentComponent, ee.getValue());
+                });
+                callPointTasks.put(ee.getKey(), task);
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException ex) {
+                    log.trace("call point evaluation is rejected by executor, {}", ee.getKey(), ex);
+                }
+            }
+        }
+        //joins in the source order, not started tasks are run by this thread, so a busy executor cannot block it
+        var result = new LinkedHashMap<Component, Map<CallPoint, List<EvalArguments>>>();
+        try {
+            for (var e : tasks.entrySet()) {
+                var variants = new LinkedHashMap<CallPoint, List<EvalArguments>>();
+                for (var task : e.getValue().values()) {
+                    var entry = join(task);
+                    if (entry != null) {
+                        variants.merge(entry.getKey(), entry.getValue(), warnDuplicated());
+                    }
+                }
+                result.put(e.getKey(), variants);
+            }
+        } catch (RuntimeException | Error e) {
+            //fail fast, the rest of call points are not evaluated,
+            //running tasks are awaited to not outlive the caller's evaluation state
+            cancelled.set(true);
+            tasks.values().forEach(callPointTasks -> callPointTasks.values().forEach(EvalContextFactoryImpl::await));
+            throw e;
+        }
+        return result;
+    }
+
+    private static void await(FutureTask<?> task) {
+        task.run();
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | CancellationException e) {
+            log.trace("skipped call point evaluation error", e);
+        }
+    }
+
+    private static <T> T join(FutureTask<T> task) {
+        task.run();
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EvalException(e);
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new EvalException(cause);
+        }
+    }
+
     private static Map.Entry<CallPoint, List<EvalArguments>> getCallPointListEntry(
             Component component, Method method, EvalContextFactory evalContextFactory, CallPoint callPoint, Component dependentComponent,
             List<CallPoint> matchedCallPoints
@@ -150,34 +254,10 @@ public class EvalContextFactoryImpl implements EvalContextFactory {
         return !argVariants.isEmpty() ? entry(dependentMethod, argVariants) : null;
     }
 
-    static List<CallPoint> getMatchedCallPoints(CallPoint dependentMethod, String methodName,
-                                                Type[] argumentTypes, Class<?> declaringClass) {
-        var callPoints = dependentMethod.getCallPoints();
-        return callPoints.stream().filter(calledMethodInsideDependent -> {
-            var match = isMatch(methodName, argumentTypes, declaringClass, calledMethodInsideDependent);
-            var cycled = isMatch(dependentMethod.getMethodName(), dependentMethod.getArgumentTypes(),
-                    dependentMethod.getOwnerClass(), calledMethodInsideDependent);
-            //exclude cycling
-            return match && !cycled;
-        }).collect(toList());
-    }
-
-    static boolean isMatch(String expectedMethodName, Type[] expectedArguments, Class<?> declaringClass,
-                           CallPoint calledMethodInsideDependent) {
-        var calledMethod = calledMethodInsideDependent.getMethodName();
-        var calledMethodArgumentTypes = calledMethodInsideDependent.getArgumentTypes();
-        var calledMethodClass = getCalledMethodClass(calledMethodInsideDependent);
-
-        var methodEquals = expectedMethodName.equals(calledMethod);
-        var argumentsEqual = Arrays.equals(expectedArguments, calledMethodArgumentTypes);
-        var classEquals = calledMethodClass != null && calledMethodClass.isAssignableFrom(declaringClass);
-        return methodEquals && argumentsEqual && classEquals;
-    }
-
-    static Class<?> getCalledMethodClass(CallPoint calledMethodInsideDependent) {
+    static Class<?> getCalledMethodClass(CallPoint calledMethodInsideDependent, ClassCache classCache) {
         var ownerClass = calledMethodInsideDependent.getOwnerClass();
         var ownerClassName = calledMethodInsideDependent.getOwnerClassName();
-        return ownerClass == null ? findClassByName(ownerClassName) : ownerClass;
+        return ownerClass == null ? classCache.findClassByName(ownerClassName) : ownerClass;
     }
 
     @Override
@@ -188,14 +268,16 @@ public class EvalContextFactoryImpl implements EvalContextFactory {
 
     protected Eval withArgumentsVariants(Component component, Method method, Eval emptyEval) {
         var argumentVariants = component != null ? computeArgumentVariants(component, method, this,
-                dependentProvider, callPointsProvider) : List.<EvalArguments>of();
-        var resolveArgumentVariants = resolveArgumentVariants(component, method, argumentVariants, method.isStatic(), resolver);
+                dependentProvider, callPointsProvider, settings.getArgumentsExecutor()) : List.<EvalArguments>of();
+        var resolveArgumentVariants = resolveArgumentVariants(component, method, argumentVariants, method.isStatic(),
+                resolver, settings.getVariantsLimit());
         return emptyEval.withArgumentVariants(resolveArgumentVariants);
     }
 
     protected Eval newEmptyEvalContext(Component component, JavaClass javaClass, Method method, BootstrapMethods bootstrapMethods) {
-        var tree = newTree(component.getType(), method);
-        return new Eval(component, javaClass, method, bootstrapMethods, callCache, Set.of(), null, tree);
+        var tree = bytecodeCache.getInvokeTree(method);
+        return new Eval(component, javaClass, method, bootstrapMethods, callCache, bytecodeCache, Set.of(), null, tree,
+                settings, settings.getBudgetLimits().newEvalBudget(component, method));
     }
 
     public interface DependentProvider extends Function<Component, List<Component>> {
@@ -0,0 +1,44 @@
+package io.github.m4gshm.components.visualizer.eval.bytecode;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+import java.util.concurrent.Executor;
+
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalBudget.Limits.noLimits;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.VariantsLimit.noVariantsLimit;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Optional evaluation features of eval contexts created by one factory.
+ */
+@Data
+@Builder(toBuilder = true)
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public class EvalSettings {
+    public static final EvalSettings DEFAULT = EvalSettings.builder().build();
+
+    /**
+     * Keeps instruction evaluation results per eval context, the results are the same for the same arguments, because
+     * each arguments variant has own context.
+     */
+    boolean memoize;
+    /**
+     * Limit of argument variants per one eval context or call.
+     */
+    @NonNull
+    @Builder.Default
+    VariantsLimit variantsLimit = noVariantsLimit();
+    /**
+     * Evaluation budget limits per evaluated method.
+     */
+    @NonNull
+    @Builder.Default
+    EvalBudget.Limits budgetLimits = noLimits();
+    /**
+     * Executor of call points arguments evaluation, the evaluation is sequential if null.
+     */
+    Executor argumentsExecutor;
+}
@@ -6,18 +6,17 @@ import io.github.m4gshm.components.visualizer.eval.result.Result;
 import lombok.NonNull;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.bcel.Repository;
 import org.apache.bcel.classfile.JavaClass;
 import org.apache.bcel.classfile.Method;
 import org.apache.bcel.classfile.Utility;
 import org.apache.bcel.generic.*;
+import org.apache.bcel.util.Repository;
 import org.springframework.aop.SpringProxy;
 import org.springframework.aop.framework.Advised;
 import org.springframework.aop.support.AopUtils;
 
 import java.lang.invoke.CallSite;
 import java.lang.invoke.MethodHandle;
-import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Proxy;
@@ -30,6 +29,8 @@ import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static io.github.m4gshm.components.visualizer.ComponentsExtractorUtils.getDeclaredField;
+import static io.github.m4gshm.components.visualizer.ReflectionCache.getConstructor;
+import static io.github.m4gshm.components.visualizer.ReflectionCache.trySetAccessible;
 import static io.github.m4gshm.components.visualizer.Utils.classByName;
 import static io.github.m4gshm.components.visualizer.Utils.loadedClass;
 import static io.github.m4gshm.components.visualizer.eval.result.Result.*;
@@ -38,6 +39,7 @@ import static java.util.Map.entry;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Stream.of;
 import static java.util.stream.StreamSupport.stream;
+import static org.apache.bcel.Repository.getRepository;
 
 @Slf4j
 @UtilityClass
@@ -47,8 +49,12 @@ public class EvalUtils {
     private static final Class<SpringProxy> springProxyClass = loadedClass(() -> SpringProxy.class);
 
     public static List<JavaClass> getClassSources(Class<?> componentType) {
+        return getClassSources(componentType, getRepository());
+    }
+
+    public static List<JavaClass> getClassSources(Class<?> componentType, Repository repository) {
         try {
-            return lookupClassSources(componentType);
+            return lookupClassSources(componentType, repository);
         } catch (ClassNotFoundException e) {
             log.debug("getClassInheritanceHierarchy {}", componentType, e);
             return List.of();
@@ -56,8 +62,22 @@ public class EvalUtils {
     }
 
     public static List<JavaClass> lookupClassSources(Class<?> aClass) throws ClassNotFoundException {
+        return lookupClassSources(aClass, getRepository());
+    }
+
+    public static List<JavaClass> lookupClassSources(Class<?> aClass, Repository repository) throws ClassNotFoundException {
+        var unproxied = unproxy(aClass);
+        if (repository instanceof ClassSourceRepository) {
+            return lookupClassSources(repository.loadClass(unproxied));
+        }
+        //the bcel repository is not thread-safe
+        synchronized (repository) {
+            return lookupClassSources(repository.loadClass(unproxied));
+        }
+    }
+
+    private static List<JavaClass> lookupClassSources(JavaClass javaClass) throws ClassNotFoundException {
         var classes = new ArrayList<JavaClass>();
-        var javaClass = Repository.lookupClass(unproxy(aClass));
         classes.add(javaClass);
         var className = javaClass.getClassName();
         try {
@@ -102,7 +122,7 @@ public class EvalUtils {
                          InstructionHandle lastArgInstruction, Type expectedType,
                          Eval eval, List<ParameterValue> parameters) {
         try {
-            var value = methodHandle.invokeWithArguments(asList(arguments));
+            var value = MethodHandleCache.invoke(methodHandle, arguments);
             return invoked(value, expectedType, firstInstruction, lastArgInstruction, null, eval, parameters);
         } catch (Throwable e) {
             throw new EvalException(e);
@@ -121,13 +141,12 @@ public class EvalUtils {
 
     static Result instantiateObject(InstructionHandle instructionHandle, Class<?> type, Class<?>[] argumentTypes,
                                     Object[] arguments, Delay parent, Eval eval) {
-        Constructor<?> constructor;
-        try {
-            constructor = type.getDeclaredConstructor(argumentTypes);
-        } catch (NoSuchMethodException e) {
-            throw new EvalException(e);
+        var constructor = getConstructor(type, argumentTypes);
+        if (constructor == null) {
+            var signature = type.getName() + ".<init>" + Arrays.toString(argumentTypes);
+            throw new EvalException(new NoSuchMethodException(signature));
         }
-        if (constructor.trySetAccessible()) try {
+        if (trySetAccessible(constructor)) try {
             var value = constructor.newInstance(arguments);
             return constant(value, ObjectType.getType(type), Result.getInstructions(instructionHandle), Result.getInstructions(instructionHandle),
                     null, eval, parent.getRelations()
@@ -150,7 +169,7 @@ public class EvalUtils {
 
     public static CallSite getCallSite(MethodHandle handler, List<Object> bootstrapMethodArguments) {
         try {
-            return (CallSite) handler.invokeWithArguments(bootstrapMethodArguments);
+            return (CallSite) MethodHandleCache.invoke(handler, bootstrapMethodArguments.toArray());
         } catch (Throwable e) {
             throw new EvalException(e);
         }
@@ -184,7 +203,7 @@ public class EvalUtils {
                                        InstructionHandle getFieldInstruction, InstructionHandle lastInstruction,
                                        Result parent, Eval eval) {
         var field = getDeclaredField(objectClass, name);
-        return field == null ? Result.notFound(name, getFieldInstruction, parent, eval) : field.trySetAccessible()
+        return field == null ? Result.notFound(name, getFieldInstruction, parent, eval) : trySetAccessible(field)
                 ? getFieldValue(object, field, lastInstruction, eval)
                 : notAccessible(field, getFieldInstruction, parent, eval);
     }
@@ -247,11 +266,21 @@ public class EvalUtils {
     }
 
     public static Entry<JavaClass, Method> getClassAndMethodSource(Class<?> type, String methodName, Type[] argTypes) {
-        return getClassAndMethodSources(type, byNameAndArgs(methodName, argTypes)).findFirst().orElse(null);
+        return getClassAndMethodSource(type, methodName, argTypes, getRepository());
+    }
+
+    public static Entry<JavaClass, Method> getClassAndMethodSource(Class<?> type, String methodName, Type[] argTypes,
+                                                                   Repository repository) {
+        return getClassAndMethodSources(type, byNameAndArgs(methodName, argTypes), repository).findFirst().orElse(null);
     }
 
     public static Stream<Entry<JavaClass, Method>> getClassAndMethodSources(Class<?> type, Predicate<Method> filter) {
-        return getClassSources(type).stream().map(javaClass -> {
+        return getClassAndMethodSources(type, filter, getRepository());
+    }
+
+    public static Stream<Entry<JavaClass, Method>> getClassAndMethodSources(Class<?> type, Predicate<Method> filter,
+                                                                           Repository repository) {
+        return getClassSources(type, repository).stream().map(javaClass -> {
             var filteredMethods = getMethodStream(javaClass, filter);
             var method = filteredMethods.findFirst().orElse(null);
             return method != null ? entry(javaClass, method) : null;
@@ -5,12 +5,8 @@ import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 import org.apache.bcel.classfile.Code;
 import org.apache.bcel.classfile.Method;
-import org.apache.bcel.generic.Instruction;
-import org.apache.bcel.generic.InstructionHandle;
-import org.apache.bcel.generic.InstructionList;
+import org.apache.bcel.generic.*;
 
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
 import java.util.Arrays;
 import java.util.Set;
 import java.util.function.BiFunction;
@@ -38,21 +34,37 @@ public class InstructionUtils {
         );
     }
 
-    @SneakyThrows
+    /**
+     * Compares opcodes and operands like the bytes of the dumped instructions, without dumping.
+     */
     public static boolean equals(Instruction thisInst, Instruction thatInst) {
-        if (thisInst == null && thatInst == null) {
+        if (thisInst == thatInst) {
             return true;
-        } else if (thisInst == null || thatInst == null) {
+        } else if (thisInst == null || thatInst == null || thisInst.getOpcode() != thatInst.getOpcode()) {
             return false;
+        } else if (thisInst instanceof BranchInstruction) {
+            if (((BranchInstruction) thisInst).getIndex() != ((BranchInstruction) thatInst).getIndex()) {
+                return false;
+            }
+            return !(thisInst instanceof Select) || (
+                    Arrays.equals(((Select) thisInst).getMatchs(), ((Select) thatInst).getMatchs())
+                            && Arrays.equals(((Select) thisInst).getIndices(), ((Select) thatInst).getIndices())
+            );
+        } else if (thisInst instanceof IndexedInstruction) {
+            if (((IndexedInstruction) thisInst).getIndex() != ((IndexedInstruction) thatInst).getIndex()) {
+                return false;
+            } else if (thisInst instanceof IINC) {
+                return ((IINC) thisInst).getIncrement() == ((IINC) thatInst).getIncrement();
+            } else if (thisInst instanceof MULTIANEWARRAY) {
+                return ((MULTIANEWARRAY) thisInst).getDimensions() == ((MULTIANEWARRAY) thatInst).getDimensions();
+            }
+            return true;
+        } else if (thisInst instanceof BIPUSH || thisInst instanceof SIPUSH) {
+            return ((ConstantPushInstruction) thisInst).getValue().equals(((ConstantPushInstruction) thatInst).getValue());
+        } else if (thisInst instanceof NEWARRAY) {
+            return ((NEWARRAY) thisInst).getTypecode() == ((NEWARRAY) thatInst).getTypecode();
         }
-
-        var thisBytes = new ByteArrayOutputStream();
-        var thatBytes = new ByteArrayOutputStream();
-        thisInst.dump(new DataOutputStream(thisBytes));
-        thatInst.dump(new DataOutputStream(thatBytes));
-        var thisBytesByteArray = thisBytes.toByteArray();
-        var thatBytesByteArray = thatBytes.toByteArray();
-        return Arrays.equals(thisBytesByteArray, thatBytesByteArray);
+        return true;
     }
 
     public static Stream<InstructionHandle> instructions(Method method) {
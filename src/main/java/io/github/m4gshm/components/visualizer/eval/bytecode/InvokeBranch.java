@@ -20,7 +20,6 @@ import static org.springframework.util.Assert.state;
 @FieldDefaults(level = PRIVATE)
 @ToString(onlyExplicitlyIncluded = true)
 public class InvokeBranch {
-    final Class<?> aClass;
     final Method method;
     @ToString.Include
     NavigableMap<Integer, InstructionHandle> ops = new TreeMap<>();
@@ -31,15 +30,15 @@ public class InvokeBranch {
     @ToString.Include
     List<InvokeBranch> next = new ArrayList<>();
 
-    public static InvokeBranch newTree(Class<?> aClass, Method method) {
-        var instructionHandleStream = instructions(method);
+    public static InvokeBranch newTree(Method method, InstructionList instructionList) {
+        var instructionHandleStream = instructions(instructionList);
         var cursor = instructionHandleStream.findFirst().orElse(null);
-        return newTree(aClass, method, null, cursor, List.of());
+        return newTree(method, null, cursor, List.of());
     }
 
-    private static InvokeBranch newTree(Class<?> aClass, Method method, InvokeBranch prev, InstructionHandle start,
+    private static InvokeBranch newTree(Method method, InvokeBranch prev, InstructionHandle start,
                                         @NonNull Collection<InvokeBranch> siblings) {
-        var branch = new InvokeBranch(aClass, method);
+        var branch = new InvokeBranch(method);
         var cursor = start;
         var isFirst = true;
         while (cursor != null) {
@@ -52,13 +51,13 @@ public class InvokeBranch {
                     var isGoto = targeterInstruction instanceof GotoInstruction;
                     var isLoop = index < 0 && isGoto;
                     if (!isFirst && isLoop) {
-                        var tail = newTree(aClass, method, branch, cursor, List.of());
+                        var tail = newTree(method, branch, cursor, List.of());
                         return witTail(branch, tail);
                     } else {
                         var refFromPrev = isRefFromPrev(prev, targeter);
                         if (!isFirst && refFromPrev) {
                             //maybe target from prev branch
-                            var tail = newTree(aClass, method, branch, cursor, List.of());
+                            var tail = newTree(method, branch, cursor, List.of());
                             return witTail(branch, tail);
                         } else if (!refFromPrev) {
                             var tailOwnedBranch = foundEndedBy(targeterInstruction, siblings);
@@ -94,7 +93,7 @@ public class InvokeBranch {
                             //todo the jumpToSibling must be same as the jumpTo
                             tail = jumpToSibling.splitBranch(jumpToPosition);
                         } else {
-                            tail = newTree(aClass, method, branch, jumpTo, List.of());
+                            tail = newTree(method, branch, jumpTo, List.of());
                         }
                         branch.addNext(tail);
                     }
@@ -184,12 +183,12 @@ public class InvokeBranch {
     }
 
     private static void fork(InvokeBranch prev, InstructionHandle left, List<InstructionHandle> rights) {
-        var leftBranch = newTree(prev.aClass, prev.method, prev, left, List.of());
+        var leftBranch = newTree(prev.method, prev, left, List.of());
         prev.addNext(leftBranch);
         var lefts = new ArrayList<InvokeBranch>();
         lefts.add(leftBranch);
         for (var right : rights) {
-            var rightBranch = newTree(prev.aClass, prev.method, prev, right, lefts);
+            var rightBranch = newTree(prev.method, prev, right, lefts);
             prev.addNext(rightBranch);
             lefts.add(rightBranch);
         }
@@ -247,7 +246,7 @@ public class InvokeBranch {
         var tailOps = new TreeMap<>(ops.tailMap(splitPosition));
         if (!remindedHead.isEmpty() && !tailOps.isEmpty()) {
             var next = this.next;
-            var tail = new InvokeBranch(null, null, tailOps, newOpsGroups(tailOps),
+            var tail = new InvokeBranch(null, tailOps, newOpsGroups(tailOps),
                     new ArrayList<>(List.of(this)), next);
             for (var oneNext : next) {
                 var prev = oneNext.prev;
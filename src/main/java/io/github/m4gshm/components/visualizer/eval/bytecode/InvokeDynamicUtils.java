@@ -21,7 +21,6 @@ import java.util.stream.IntStream;
 
 import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.getClassByName;
 import static io.github.m4gshm.components.visualizer.eval.bytecode.MethodInfo.newMethodInfo;
-import static java.lang.invoke.MethodHandles.privateLookupIn;
 import static java.lang.invoke.MethodType.fromMethodDescriptorString;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -160,8 +159,6 @@ public class InvokeDynamicUtils {
         var methodType = fromMethodDescriptorString(methodInfo.getSignature(), null);
         var targetClass = getClassByName(methodInfo.getClassName());
         var methodName = methodInfo.getName();
-        setAccessibleMethod(targetClass, methodName, methodType);
-
         var privateLookup = getPrivateLookup(targetClass, lookup);
         var methodHandle = lookupReference(privateLookup, methodInfo.getReferenceKind(), targetClass, methodName, methodType);
 
@@ -170,19 +167,19 @@ public class InvokeDynamicUtils {
 
     static Lookup getPrivateLookup(Class<?> targetClass, Lookup lookup) {
         var open = targetClass.getModule().isOpen(targetClass.getPackageName());
-        if (open) {
-            try {
-                return privateLookupIn(targetClass, lookup);
-            } catch (IllegalAccessException e) {
-                throw new EvalException(e);
-            }
-        }
-        return lookup;
+        return open ? MethodHandleCache.getPrivateLookup(targetClass) : lookup;
     }
 
     private static MethodHandle lookupReference(Lookup lookup, int referenceKind, Class<?> targetClass, String
             methodName, MethodType methodType) {
-        setAccessibleMethod(targetClass, methodName, methodType);
+        return MethodHandleCache.getMethodHandle(lookup, targetClass, methodName, methodType, referenceKind, () -> {
+            setAccessibleMethod(targetClass, methodName, methodType);
+            return newMethodHandle(lookup, referenceKind, targetClass, methodName, methodType);
+        });
+    }
+
+    private static MethodHandle newMethodHandle(Lookup lookup, int referenceKind, Class<?> targetClass, String
+            methodName, MethodType methodType) {
         switch (referenceKind) {
             case REF_invokeSpecial:
                 return lookupSpecial(lookup, targetClass, methodName, methodType);
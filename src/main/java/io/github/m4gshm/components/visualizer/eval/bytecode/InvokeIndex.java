@@ -0,0 +1,132 @@
+package io.github.m4gshm.components.visualizer.eval.bytecode;
+
+import io.github.m4gshm.components.visualizer.client.Utils;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.bcel.classfile.BootstrapMethods;
+import org.apache.bcel.classfile.JavaClass;
+import org.apache.bcel.classfile.Method;
+import org.apache.bcel.generic.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static io.github.m4gshm.components.visualizer.eval.bytecode.InvokeDynamicUtils.getInvokeDynamicUsedMethodInfo;
+import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.toList;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Invoke instructions (INVOKEVIRTUAL, INVOKEINTERFACE, INVOKESTATIC, INVOKEDYNAMIC) of a class collected by one bytecode pass.
+ */
+@Slf4j
+@Data
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public class InvokeIndex {
+    JavaClass javaClass;
+    ConstantPoolGen constantPoolGen;
+    BootstrapMethods bootstrapMethods;
+    Map<Method, List<InvokeSite>> methodInvokes;
+    Map<String, Map<String, List<InvokeSite>>> ownerInvokes;
+
+    public static InvokeIndex newInvokeIndex(JavaClass javaClass, BytecodeCache bytecodeCache) {
+        var constantPoolGen = bytecodeCache.getConstantPoolGen(javaClass);
+        BootstrapMethods bootstrapMethods;
+        try {
+            bootstrapMethods = Utils.getBootstrapMethods(javaClass);
+        } catch (NoClassDefFoundError e) {
+            log.debug("bootstrap methods error of {}", javaClass.getClassName(), e);
+            bootstrapMethods = null;
+        }
+        Method[] methods;
+        try {
+            methods = javaClass.getMethods();
+        } catch (NoClassDefFoundError e) {
+            log.debug("methods error of {}", javaClass.getClassName(), e);
+            methods = new Method[0];
+        }
+        var methodInvokes = new LinkedHashMap<Method, List<InvokeSite>>();
+        var ownerInvokes = new LinkedHashMap<String, Map<String, List<InvokeSite>>>();
+        var index = 0;
+        for (var method : methods) {
+            var invokes = new ArrayList<InvokeSite>();
+            var handles = bytecodeCache.instructions(method).collect(toList());
+            for (var handle : handles) {
+                var invoke = newInvokeSite(index, method, handle, constantPoolGen, bootstrapMethods);
+                if (invoke != null) {
+                    index++;
+                    invokes.add(invoke);
+                    ownerInvokes.computeIfAbsent(invoke.getOwnerClassName(), k -> new LinkedHashMap<>())
+                            .computeIfAbsent(invoke.getMethodName(), k -> new ArrayList<>()).add(invoke);
+                }
+            }
+            methodInvokes.put(method, invokes);
+        }
+        return new InvokeIndex(javaClass, constantPoolGen, bootstrapMethods, methodInvokes, ownerInvokes);
+    }
+
+    private static InvokeSite newInvokeSite(int index, Method method, InstructionHandle handle,
+                                            ConstantPoolGen constantPoolGen, BootstrapMethods bootstrapMethods) {
+        var instruction = handle.getInstruction();
+        if (instruction instanceof INVOKEDYNAMIC) {
+            var methodInfo = bootstrapMethods != null
+                    ? getInvokeDynamicUsedMethodInfo((INVOKEDYNAMIC) instruction, bootstrapMethods, constantPoolGen)
+                    : null;
+            return methodInfo != null ? new InvokeSite(index, method, handle, methodInfo.getClassName(),
+                    methodInfo.getName(), Type.getArgumentTypes(methodInfo.getSignature()), methodInfo.getReferenceKind()
+            ) : null;
+        } else if (instruction instanceof INVOKEVIRTUAL || instruction instanceof INVOKEINTERFACE
+                || instruction instanceof INVOKESTATIC) {
+            var invoke = (InvokeInstruction) instruction;
+            return new InvokeSite(index, method, handle, invoke.getClassName(constantPoolGen),
+                    invoke.getMethodName(constantPoolGen), invoke.getArgumentTypes(constantPoolGen), 0);
+        }
+        return null;
+    }
+
+    public List<InvokeSite> getInvokes(Method method) {
+        return methodInvokes.getOrDefault(method, List.of());
+    }
+
+    public List<InvokeSite> getInvokes(String ownerClassName, String methodName) {
+        return ownerInvokes.getOrDefault(ownerClassName, Map.of()).getOrDefault(methodName, List.of());
+    }
+
+    /**
+     * @return invokes of the owner classes in the bytecode order
+     */
+    public List<InvokeSite> getInvokes(String... ownerClassNames) {
+        return Arrays.stream(ownerClassNames).map(ownerClassName -> ownerInvokes.getOrDefault(ownerClassName, Map.of()))
+                .flatMap(invokes -> invokes.values().stream()).flatMap(Collection::stream)
+                .sorted(comparingInt(InvokeSite::getIndex)).collect(toList());
+    }
+
+    public interface InvokeIndexProvider extends Function<JavaClass, InvokeIndex> {
+        static InvokeIndexProvider newInvokeIndexCache(BytecodeCache bytecodeCache) {
+            var cache = new ConcurrentHashMap<JavaClass, InvokeIndex>();
+            return javaClass -> cache.computeIfAbsent(javaClass, k -> newInvokeIndex(k, bytecodeCache));
+        }
+    }
+
+    @Data
+    @FieldDefaults(makeFinal = true, level = PRIVATE)
+    public static class InvokeSite {
+        int index;
+        Method method;
+        InstructionHandle handle;
+        String ownerClassName;
+        String methodName;
+        Type[] argumentTypes;
+        int referenceKind;
+
+        public boolean isInvokeDynamic() {
+            return handle.getInstruction() instanceof INVOKEDYNAMIC;
+        }
+
+        public boolean isInstanceOf(Class<? extends InvokeInstruction> type) {
+            return type.isInstance(handle.getInstruction());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.m4gshm.components.visualizer.eval.bytecode;
+
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+import lombok.experimental.UtilityClass;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodHandles.privateLookupIn;
+import static java.lang.invoke.MethodType.genericMethodType;
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Resolved method handles and private lookups of evaluated classes. Entries are bound to the target class by
+ * {@link ClassValue}, so the cache does not keep unloaded classes.
+ */
+@UtilityClass
+class MethodHandleCache {
+    private static final int MAX_CACHED_ARITY = 16;
+    private static final Lookup LOOKUP = MethodHandles.lookup();
+    private static final AtomicReferenceArray<MethodHandle> spreadInvokers =
+            new AtomicReferenceArray<>(MAX_CACHED_ARITY + 1);
+    private static final ClassValue<Lookup> privateLookups = new ClassValue<>() {
+        @Override
+        protected Lookup computeValue(Class<?> targetClass) {
+            try {
+                return privateLookupIn(targetClass, LOOKUP);
+            } catch (IllegalAccessException e) {
+                throw new EvalException(e);
+            }
+        }
+    };
+    private static final ClassValue<ConcurrentMap<Key, MethodHandle>> methodHandles = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Key, MethodHandle> computeValue(Class<?> targetClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * @param targetClass a class of a package that is open to this module
+     */
+    static Lookup getPrivateLookup(Class<?> targetClass) {
+        return privateLookups.get(targetClass);
+    }
+
+    /**
+     * Returns the cached method handle or resolves it by the factory. Resolving errors are not cached.
+     * The handles are cached per lookup class and modes, so a handle is not shared between lookups of different access.
+     *
+     * @param lookup the lookup used by the factory
+     */
+    static MethodHandle getMethodHandle(Lookup lookup, Class<?> targetClass, String methodName, MethodType methodType,
+                                        int referenceKind, Supplier<MethodHandle> factory) {
+        var key = new Key(lookup.lookupClass(), lookup.lookupModes(), methodName, methodType, referenceKind);
+        var handles = methodHandles.get(targetClass);
+        var methodHandle = handles.get(key);
+        if (methodHandle == null) {
+            methodHandle = factory.get();
+            var exists = handles.putIfAbsent(key, methodHandle);
+            if (exists != null) {
+                methodHandle = exists;
+            }
+        }
+        return methodHandle;
+    }
+
+    /**
+     * Invokes the method handle with the same arguments conversion as
+     * {@link MethodHandle#invokeWithArguments(Object...)}, but reuses the spread invoker of the arguments amount.
+     */
+    static Object invoke(MethodHandle methodHandle, Object[] arguments) throws Throwable {
+        var arity = arguments.length;
+        var invocationType = genericMethodType(arity);
+        return getSpreadInvoker(arity).invokeExact(methodHandle.asType(invocationType), arguments);
+    }
+
+    private static MethodHandle getSpreadInvoker(int arity) {
+        if (arity > MAX_CACHED_ARITY) {
+            return MethodHandles.spreadInvoker(genericMethodType(arity), 0);
+        }
+        var invoker = spreadInvokers.get(arity);
+        if (invoker == null) {
+            invoker = MethodHandles.spreadInvoker(genericMethodType(arity), 0);
+            spreadInvokers.compareAndSet(arity, null, invoker);
+        }
+        return invoker;
+    }
+
+    @Data
+    @FieldDefaults(makeFinal = true, level = PRIVATE)
+    private static class Key {
+        Class<?> lookupClass;
+        int lookupModes;
+        String methodName;
+        MethodType methodType;
+        int referenceKind;
+    }
+}
@@ -97,7 +97,7 @@ public class StringifyResolver implements Resolver {
             var className = bootstrapMethodInfo.getClassName();
             var methodName = bootstrapMethodInfo.getMethodName();
             var stringConcatenation = "java.lang.invoke.StringConcatFactory".equals(className) && "makeConcatWithConstants".equals(methodName);
-            var argumentClasses = toClasses(invokedynamic.getArgumentTypes(constantPoolGen));
+            var argumentClasses = eval.getClassCache().toClasses(invokedynamic.getArgumentTypes(constantPoolGen));
             if (stringConcatenation) {
                 var invokeResultType = invokedynamic.getType(constantPoolGen);
                 var result = callInvokeDynamic((DelayInvoke) delay, argumentClasses, eval, true, this,
@@ -127,9 +127,9 @@ public class StringifyResolver implements Resolver {
                 var invokeInstruction = (InvokeInstruction) instruction;
                 var methodName = invokeInstruction.getMethodName(constantPoolGen);
                 var argumentTypes = invokeInstruction.getArgumentTypes(constantPoolGen);
-                var argumentClasses = toClasses(argumentTypes);
+                var argumentClasses = eval.getClassCache().toClasses(argumentTypes);
 
-                var objectClass = toClass(invokeInstruction.getClassName(constantPoolGen));
+                var objectClass = eval.getClassCache().toClass(invokeInstruction.getClassName(constantPoolGen));
 
                 return callInvokeVirtual((DelayInvoke) delay, argumentClasses, eval, false,
                         this, (parameters, lastInstruction) -> {
@@ -141,9 +141,9 @@ public class StringifyResolver implements Resolver {
                 var invokeInstruction = (InvokeInstruction) instruction;
                 var methodName = invokeInstruction.getMethodName(constantPoolGen);
                 var argumentTypes = invokeInstruction.getArgumentTypes(constantPoolGen);
-                var argumentClasses = toClasses(argumentTypes);
+                var argumentClasses = eval.getClassCache().toClasses(argumentTypes);
 
-                var objectClass = toClass(invokeInstruction.getClassName(constantPoolGen));
+                var objectClass = eval.getClassCache().toClass(invokeInstruction.getClassName(constantPoolGen));
 
                 try {
                     return callInvokeStatic((DelayInvoke) delay, argumentClasses, eval, false,
@@ -161,9 +161,9 @@ public class StringifyResolver implements Resolver {
                 var invokeInstruction = (InvokeInstruction) instruction;
                 var methodName = invokeInstruction.getMethodName(constantPoolGen);
                 var argumentTypes = invokeInstruction.getArgumentTypes(constantPoolGen);
-                var argumentClasses = toClasses(argumentTypes);
+                var argumentClasses = eval.getClassCache().toClasses(argumentTypes);
 
-                var objectClass = toClass(invokeInstruction.getClassName(constantPoolGen));
+                var objectClass = eval.getClassCache().toClass(invokeInstruction.getClassName(constantPoolGen));
                 return callInvokeSpecial((DelayInvoke) delay, argumentClasses, eval, false,
                         this, (parameters, lastInstruction) -> {
                             if ("<init>".equals(methodName)) {
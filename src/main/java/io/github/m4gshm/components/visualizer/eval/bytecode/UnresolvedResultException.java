@@ -2,7 +2,13 @@ package io.github.m4gshm.components.visualizer.eval.bytecode;
 
 import io.github.m4gshm.components.visualizer.eval.result.Result;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Thrown and caught by the evaluation on each unresolved call variant. The stack trace is not filled unless the debug
+ * level is enabled for this class, a deep trace of the recursive evaluation costs more than the rest of the exception.
+ */
+@Slf4j
 @Getter
 public class UnresolvedResultException extends EvalException {
     private final Result result;
@@ -21,4 +27,9 @@ public class UnresolvedResultException extends EvalException {
         super(message + " " + result);
         this.result = result;
     }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return log.isDebugEnabled() ? super.fillInStackTrace() : this;
+    }
 }
@@ -0,0 +1,87 @@
+package io.github.m4gshm.components.visualizer.eval.bytecode;
+
+import io.github.m4gshm.components.visualizer.model.Component;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+import org.apache.bcel.classfile.Method;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+/**
+ * Max amount of argument variants enumerated per one call or eval context.
+ * The variants are generated lazily, so a truncated enumeration does not produce the cut off variants at all.
+ */
+@Data
+@FieldDefaults(makeFinal = true, level = PRIVATE)
+public class VariantsLimit {
+    private static final VariantsLimit NO_LIMIT = new VariantsLimit(-1, (component, method, limit) -> {
+    });
+
+    /**
+     * Max amount of variants, not limited if negative.
+     */
+    int maxVariants;
+    TruncationListener listener;
+
+    public static VariantsLimit noVariantsLimit() {
+        return NO_LIMIT;
+    }
+
+    public boolean isLimited() {
+        return maxVariants >= 0;
+    }
+
+    public boolean isExceeded(int size) {
+        return isLimited() && size >= maxVariants;
+    }
+
+    /**
+     * Collects all variants if not limited. Otherwise, collects distinct variants up to the limit, so duplicates do not
+     * use it up, and notifies the listener if the rest of variants is cut off.
+     */
+    public <T> List<T> collect(Stream<T> variants, Component component, Method method) {
+        if (!isLimited()) {
+            return variants.collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+        }
+        var result = new ArrayList<T>();
+        var iterator = variants.distinct().iterator();
+        while (iterator.hasNext()) {
+            if (result.size() == maxVariants) {
+                onTruncated(component, method);
+                break;
+            }
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    /**
+     * Adds variants to the target up to the limit and notifies the listener if a new variant is cut off.
+     *
+     * @return true if a variant is cut off
+     */
+    public <T> boolean addAll(Collection<T> target, Collection<? extends T> variants, Component component,
+                              Method method) {
+        for (var variant : variants) {
+            if (isExceeded(target.size()) && !target.contains(variant)) {
+                onTruncated(component, method);
+                return true;
+            }
+            target.add(variant);
+        }
+        return false;
+    }
+
+    public void onTruncated(Component component, Method method) {
+        listener.onTruncated(component, method, maxVariants);
+    }
+
+    public interface TruncationListener {
+        void onTruncated(Component component, Method method, int maxVariants);
+    }
+}
@@ -4,24 +4,37 @@ import io.github.m4gshm.components.visualizer.eval.bytecode.Eval;
 import io.github.m4gshm.components.visualizer.eval.bytecode.EvalException;
 import io.github.m4gshm.components.visualizer.eval.result.Result.RelationsAware;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.apache.bcel.generic.InstructionHandle;
 import org.apache.bcel.generic.Type;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import static lombok.AccessLevel.NONE;
 import static lombok.AccessLevel.PROTECTED;
 import static org.springframework.util.Assert.state;
 
 @Getter
 @FieldDefaults(level = PROTECTED)
 public class Delay extends Result implements ContextAware, RelationsAware, TypeAware {
+    private static final Resolved[] NO_RESOLVED = new Resolved[0];
+
     final Eval eval;
     final String description;
     final DelayFunction<Delay> evaluator;
     final List<Result> relations;
     final Type type;
+    //relations are hashed recursively, so the hash is computed once
+    @Getter(NONE)
+    int hash;
+    //results of the evaluator per resolver and eval arguments identity, the evals of different argument variants are
+    //equal, but their evaluated results differ
+    @Getter(NONE)
+    private volatile Resolved[] resolved = NO_RESOLVED;
 
     public Delay(List<InstructionHandle> firstInstruction, List<InstructionHandle> lastInstruction,
                  Eval eval, String description, DelayFunction<? extends Delay> evaluator,
@@ -44,12 +57,42 @@ public class Delay extends Result implements ContextAware, RelationsAware, TypeA
         return delayed.getValue();
     }
 
+    /**
+     * Evaluates the delayed result once per resolver and arguments variant of the eval, errors are not cached.
+     */
     public Result getDelayed(Eval eval, Resolver resolver) {
         state(this.getEval().equals(eval));
+        var arguments = eval.getArguments();
+        var cached = findResolved(resolver, arguments);
+        if (cached != null) {
+            return cached;
+        }
+        //the evaluator can be recursive, so the result is not computed under the lock
         var result = evaluator.call(this, eval, resolver);
         if (result == this) {
             throw new EvalException("looped delay 1");
         }
+        return addResolved(resolver, arguments, result);
+    }
+
+    private Result findResolved(Resolver resolver, Map<Integer, Result> arguments) {
+        for (var r : resolved) {
+            if (r.resolver == resolver && r.arguments == arguments) {
+                return r.result;
+            }
+        }
+        return null;
+    }
+
+    private synchronized Result addResolved(Resolver resolver, Map<Integer, Result> arguments, Result result) {
+        var exists = findResolved(resolver, arguments);
+        if (exists != null) {
+            return exists;
+        }
+        var resolved = this.resolved;
+        var newResolved = Arrays.copyOf(resolved, resolved.length + 1);
+        newResolved[resolved.length] = new Resolved(resolver, arguments, result);
+        this.resolved = newResolved;
         return result;
     }
 
@@ -72,6 +115,7 @@ public class Delay extends Result implements ContextAware, RelationsAware, TypeA
         if (object == null || getClass() != object.getClass()) return false;
         if (!super.equals(object)) return false;
         Delay delay = (Delay) object;
+        if (hash != 0 && delay.hash != 0 && hash != delay.hash) return false;
         return Objects.equals(eval, delay.eval)
                 && Objects.equals(relations, delay.relations)
                 && Objects.equals(type, delay.type);
@@ -79,7 +123,19 @@ public class Delay extends Result implements ContextAware, RelationsAware, TypeA
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), eval, relations, type);
+        var hash = this.hash;
+        if (hash == 0) {
+            hash = Objects.hash(super.hashCode(), eval, relations, type);
+            this.hash = hash;
+        }
+        return hash;
+    }
+
+    @RequiredArgsConstructor
+    private static class Resolved {
+        private final Resolver resolver;
+        private final Map<Integer, Result> arguments;
+        private final Result result;
     }
 
     @FunctionalInterface
@@ -5,10 +5,12 @@ import io.github.m4gshm.components.visualizer.eval.bytecode.Eval.EvalArguments;
 import io.github.m4gshm.components.visualizer.eval.bytecode.Eval.EvalInvokeObject;
 import io.github.m4gshm.components.visualizer.eval.bytecode.Eval.ParameterValue;
 import io.github.m4gshm.components.visualizer.eval.bytecode.EvalException;
-import io.github.m4gshm.components.visualizer.eval.bytecode.InstructionUtils;
 import io.github.m4gshm.components.visualizer.eval.bytecode.NotInvokedException;
 import io.github.m4gshm.components.visualizer.eval.result.Delay.DelayFunction;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.experimental.FieldDefaults;
 import org.apache.bcel.classfile.LocalVariable;
 import org.apache.bcel.generic.Instruction;
@@ -27,17 +29,74 @@ import static io.github.m4gshm.components.visualizer.eval.result.Variable.VarTyp
 import static io.github.m4gshm.components.visualizer.eval.result.Variable.VarType.MethodArg;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
+import static lombok.AccessLevel.NONE;
 import static lombok.AccessLevel.PROTECTED;
 
 @Data
+@Setter(NONE)
 @FieldDefaults(level = PROTECTED, makeFinal = true)
 public abstract class Result implements ContextAware {
+    /**
+     * The instructions lists must not be modified after construction, they are fingerprinted by the constructor.
+     */
     List<InstructionHandle> firstInstructions;
     List<InstructionHandle> lastInstructions;
+    /**
+     * Distinct instructions of the first and last instruction handles.
+     */
+    @Getter(NONE)
+    @ToString.Exclude
+    Collection<Instruction> firstOps;
+    @Getter(NONE)
+    @ToString.Exclude
+    Collection<Instruction> lastOps;
+    /**
+     * Precomputed hash of the first and last instructions sets.
+     */
+    @Getter(NONE)
+    @ToString.Exclude
+    int instructionsHash;
 
     public Result(List<InstructionHandle> firstInstructions, List<InstructionHandle> lastInstructions) {
         this.firstInstructions = firstInstructions;
         this.lastInstructions = lastInstructions;
+        this.firstOps = getDistinctOps(firstInstructions);
+        this.lastOps = getDistinctOps(lastInstructions);
+        this.instructionsHash = 31 * getHash(firstOps) + getHash(lastOps);
+    }
+
+    private static Collection<Instruction> getDistinctOps(List<InstructionHandle> instructions) {
+        //linear search is cheaper than hashing for a few instructions
+        var ops = instructions.size() > 8
+                ? new HashSet<Instruction>(instructions.size() * 2)
+                : new ArrayList<Instruction>(instructions.size());
+        for (var handle : instructions) {
+            var op = handle != null ? handle.getInstruction() : null;
+            if (!ops.contains(op)) {
+                ops.add(op);
+            }
+        }
+        return ops;
+    }
+
+    private static int getHash(Collection<Instruction> ops) {
+        var hash = 0;
+        for (var op : ops) {
+            hash += Objects.hashCode(op);
+        }
+        return hash;
+    }
+
+    private static boolean sameOps(Collection<Instruction> ops, Collection<Instruction> other) {
+        if (ops.size() != other.size()) {
+            return false;
+        }
+        for (var op : other) {
+            if (!ops.contains(op)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public static List<InstructionHandle> getInstructions(InstructionHandle firstInstruction) {
@@ -210,29 +269,25 @@ public abstract class Result implements ContextAware {
         return getFirst(getLastInstructions());
     }
 
+    /**
+     * Compares first and last instructions as sets, like the instruction sets are compared, but without allocations.
+     */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         var that = (Result) o;
-        if (!Objects.equals(getComponentKey(), that.getComponentKey())
-                || !Objects.equals(getMethod(), that.getMethod())
-                || !InstructionUtils.equals(getInstructions(firstInstructions), getInstructions(that.firstInstructions)))
-            return false;
-        return getInstructions(lastInstructions).equals(getInstructions(that.lastInstructions));
-    }
-
-    private Set<Instruction> getInstructions(Collection<InstructionHandle> firstInstruction) {
-        return firstInstruction.stream().map(this::getInstruction).collect(toLinkedHashSet());
-    }
-
-    private Instruction getInstruction(InstructionHandle instruction) {
-        return instruction != null ? instruction.getInstruction() : null;
+        return instructionsHash == that.instructionsHash
+                && sameOps(firstOps, that.firstOps) && sameOps(lastOps, that.lastOps)
+                && Objects.equals(getComponentKey(), that.getComponentKey())
+                && Objects.equals(getMethod(), that.getMethod());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getComponentKey(), getMethod(), getInstructions(firstInstructions), getInstructions(lastInstructions));
+        var componentKey = getComponentKey();
+        var method = getMethod();
+        return 31 * (31 * Objects.hashCode(componentKey) + Objects.hashCode(method)) + instructionsHash;
     }
 
     public List<Object> getValue(Resolver resolver) {
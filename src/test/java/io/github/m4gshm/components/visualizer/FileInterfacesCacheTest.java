@@ -0,0 +1,97 @@
+package io.github.m4gshm.components.visualizer;
+
+import io.github.m4gshm.components.visualizer.eval.bytecode.EvalContextFactoryImpl.DependentProvider;
+import io.github.m4gshm.components.visualizer.model.Component;
+import io.github.m4gshm.components.visualizer.model.Interface;
+import org.apache.bcel.generic.InstructionHandle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static io.github.m4gshm.components.visualizer.InterfacesCache.newFileInterfacesCache;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.ClassSourceRepository.newClassSourceRepository;
+import static io.github.m4gshm.components.visualizer.eval.result.Result.constant;
+import static io.github.m4gshm.components.visualizer.model.Interface.Direction.out;
+import static io.github.m4gshm.components.visualizer.model.Interface.Type.http;
+import static org.apache.bcel.generic.Type.STRING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public class FileInterfacesCacheTest {
+
+    private final Component service = Component.builder().name("service").bean(new Service()).build();
+    private final Component caller = Component.builder().name("caller").bean(new Caller()).build();
+    private final List<Interface> interfaces = List.of(Interface.builder()
+            .direction(out).type(http).name("GET:/path").id("out-http-GET:/path")
+            .build());
+    private final AtomicInteger extractions = new AtomicInteger();
+    private final Supplier<List<Interface>> extractor = () -> {
+        extractions.incrementAndGet();
+        return interfaces;
+    };
+    @TempDir
+    Path directory;
+
+    private static DependentProvider dependents(Component... dependents) {
+        return component -> List.of(dependents);
+    }
+
+    @Test
+    public void cacheHitTest() {
+        var repository = newClassSourceRepository(-1);
+        var cache = newFileInterfacesCache(directory, "env", true);
+        assertEquals(interfaces, cache.get(service, dependents(), repository, extractor));
+
+        var warmCache = newFileInterfacesCache(directory, "env", true);
+        var loaded = warmCache.get(service, dependents(), newClassSourceRepository(-1), extractor);
+        assertEquals(1, extractions.get(), "interfaces must be loaded from the cache file");
+        assertEquals(interfaces, loaded);
+    }
+
+    @Test
+    public void cacheInvalidationTest() {
+        var repository = newClassSourceRepository(-1);
+        newFileInterfacesCache(directory, "env", true).get(service, dependents(), repository, extractor);
+        assertEquals(1, extractions.get());
+
+        newFileInterfacesCache(directory, "changedEnv", true).get(service, dependents(), repository, extractor);
+        assertEquals(2, extractions.get(), "environment change must invalidate the cache");
+
+        newFileInterfacesCache(directory, "env", true).get(service, dependents(caller), repository, extractor);
+        assertEquals(3, extractions.get(), "new dependent must invalidate the cache");
+
+        var withDependency = service.toBuilder().dependencies(Set.of(caller)).build();
+        newFileInterfacesCache(directory, "env", true).get(withDependency, dependents(), repository, extractor);
+        assertEquals(4, extractions.get(), "new dependency must invalidate the cache");
+
+        newFileInterfacesCache(directory, "env", true).get(service, dependents(), repository, extractor);
+        assertEquals(4, extractions.get(), "the first key must still be cached");
+    }
+
+    @Test
+    public void evalSourcedInterfacesAreNotCachedTest() {
+        var repository = newClassSourceRepository(-1);
+        var cache = newFileInterfacesCache(directory, "env", true);
+        var evalSource = constant("GET:/path", STRING, (InstructionHandle) null, null, null, List.of());
+        var evalSourced = List.of(interfaces.get(0).toBuilder().evalSource(evalSource).build());
+        Supplier<List<Interface>> evalSourcedExtractor = () -> {
+            extractions.incrementAndGet();
+            return evalSourced;
+        };
+        cache.get(service, dependents(), repository, evalSourcedExtractor);
+        var result = cache.get(service, dependents(), repository, evalSourcedExtractor);
+        assertEquals(2, extractions.get(), "interfaces with eval sources must be extracted on each call");
+        assertNotNull(result.get(0).getEvalSource());
+    }
+
+    static class Service {
+    }
+
+    static class Caller {
+    }
+}
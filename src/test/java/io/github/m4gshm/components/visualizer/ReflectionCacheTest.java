@@ -0,0 +1,49 @@
+package io.github.m4gshm.components.visualizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReflectionCacheTest {
+
+    private static final Class<?>[] NO_ARGS = new Class<?>[0];
+
+    @Test
+    public void superclassMembersTest() throws NoSuchMethodException, NoSuchFieldException {
+        assertEquals(Base.class.getDeclaredMethod("base"), ReflectionCache.getMethod(Leaf.class, "base", NO_ARGS));
+        assertEquals(Named.class.getDeclaredMethod("name"), ReflectionCache.getMethod(Leaf.class, "name", NO_ARGS));
+        assertEquals(Base.class.getDeclaredField("value"), ReflectionCache.getField(Leaf.class, "value"));
+    }
+
+    //the superclass walk used to restart from the original type and loop forever below the first superclass
+    @Test
+    public void absentMethodTest() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            assertNull(ReflectionCache.getMethod(Leaf.class, "absent", NO_ARGS));
+            assertNull(ComponentsExtractorUtils.getDeclaredMethod(Leaf.class, "absent", NO_ARGS));
+            assertNull(ReflectionCache.getField(Leaf.class, "absent"));
+        });
+    }
+
+    public interface Named {
+        default String name() {
+            return "named";
+        }
+    }
+
+    public static class Base {
+        String value;
+
+        String base() {
+            return value;
+        }
+    }
+
+    public static class Middle extends Base {
+    }
+
+    public static class Leaf extends Middle implements Named {
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.m4gshm.components.visualizer.client;
+
+import io.github.m4gshm.components.visualizer.ComponentsExtractor;
+import io.github.m4gshm.components.visualizer.model.Component;
+import io.github.m4gshm.components.visualizer.model.Components;
+import io.github.m4gshm.components.visualizer.model.Interface;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = {ComponentsUpdateTest.First.class, ComponentsUpdateTest.Second.class,
+        ComponentsUpdateTest.Third.class})
+public class ComponentsUpdateTest {
+
+    @Autowired
+    ConfigurableApplicationContext applicationContext;
+
+    private static Map<Class<?>, Component> byType(Components components) {
+        return components.getComponents().stream().collect(toMap(Component::getType, identity()));
+    }
+
+    private static List<CharSequence> getInterfaceNames(Component component) {
+        return component.getInterfaces().stream().map(Interface::getName).collect(toList());
+    }
+
+    //the third component interfaces are replaced to detect whether they are reused or extracted again
+    private static Components withoutThirdInterfaces(Components components) {
+        return Components.builder().components(components.getComponents().stream()
+                .map(component -> Third.class.equals(component.getType())
+                        ? component.toBuilder().interfaces(List.of()).build()
+                        : component)
+                .collect(toList())).build();
+    }
+
+    @Test
+    public void updateWithoutChangesTest() {
+        var componentsExtractor = new ComponentsExtractor(applicationContext, ComponentsExtractor.Options.DEFAULT);
+        var previous = withoutThirdInterfaces(componentsExtractor.getComponents(First.class));
+        var updated = componentsExtractor.update(previous, Set.of(), First.class);
+
+        var previousByType = byType(previous);
+        var updatedByType = byType(updated);
+        assertEquals(previousByType.keySet(), updatedByType.keySet());
+        previousByType.forEach((type, component) -> assertSame(component, updatedByType.get(type), type.getName()));
+    }
+
+    @Test
+    public void updateChangedCallChainTest() {
+        var componentsExtractor = new ComponentsExtractor(applicationContext, ComponentsExtractor.Options.DEFAULT);
+        var extracted = byType(componentsExtractor.getComponents(First.class));
+        var thirdInterfaces = getInterfaceNames(extracted.get(Third.class));
+        assertFalse(thirdInterfaces.isEmpty());
+
+        var previous = withoutThirdInterfaces(componentsExtractor.getComponents(First.class));
+        var updated = byType(componentsExtractor.update(previous, Set.of(First.class), First.class));
+
+        var previousByType = byType(previous);
+        for (var type : List.of(First.class, Second.class, Third.class)) {
+            assertNotSame(previousByType.get(type), updated.get(type), type.getName() + " must be extracted again");
+        }
+        assertEquals(thirdInterfaces, getInterfaceNames(updated.get(Third.class)),
+                "the indirect dependency of the changed component must have actual interfaces");
+    }
+
+    @Service
+    public static class First {
+        private final Second second;
+
+        public First(Second second) {
+            this.second = second;
+        }
+
+        public void run() {
+            second.run(1000);
+        }
+    }
+
+    @Service
+    public static class Second {
+        private final Third third;
+
+        public Second(Third third) {
+            this.third = third;
+        }
+
+        public void run(long delay) {
+            third.schedule(delay);
+        }
+    }
+
+    @Service
+    public static class Third implements SchedulingConfigurer {
+
+        public void schedule(long delay) {
+        }
+
+        public void call() {
+        }
+
+        @Override
+        public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+            taskRegistrar.addFixedDelayTask(this::call, 1000);
+        }
+    }
+}
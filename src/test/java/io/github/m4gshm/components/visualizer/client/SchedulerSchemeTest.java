@@ -4,6 +4,7 @@ import io.github.m4gshm.components.visualizer.ComponentsExtractor;
 import io.github.m4gshm.components.visualizer.PlantUmlTextFactory;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -14,7 +15,9 @@ import org.springframework.scheduling.config.IntervalTask;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.function.BiFunction;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -29,6 +32,9 @@ public class SchedulerSchemeTest {
     @Autowired
     ConfigurableApplicationContext applicationContext;
 
+    @TempDir
+    Path cacheDirectory;
+
     @Test
     public void test() throws IOException {
         var componentsExtractor = new ComponentsExtractor(applicationContext, ComponentsExtractor.Options.DEFAULT);
@@ -40,6 +46,52 @@ public class SchedulerSchemeTest {
         assertEquals(expectedSchema, schema);
     }
 
+    @Test
+    public void streamingTest() throws IOException {
+        var componentsExtractor = new ComponentsExtractor(applicationContext, ComponentsExtractor.Options.DEFAULT);
+        var components = componentsExtractor.getComponents(SchedulerSchemeTest.SchedulerService.class);
+        var expectedSchema = new String(copyToByteArray(SchedulerSchemeTest.class
+                .getResourceAsStream("/SchedulerSchemeTest.puml")), UTF_8);
+
+        var out = new ByteArrayOutputStream();
+        new PlantUmlTextFactory("test-app", PlantUmlTextFactory.Options.DEFAULT).create(components, out);
+        assertEquals(expectedSchema, out.toString(UTF_8));
+
+        var appendable = new StringBuilder();
+        new PlantUmlTextFactory("test-app", PlantUmlTextFactory.Options.DEFAULT).create(components, appendable);
+        assertEquals(expectedSchema, appendable.toString());
+    }
+
+    @Test
+    public void parallelTest() throws IOException {
+        var options = ComponentsExtractor.Options.DEFAULT.toBuilder().parallelism(4).virtualThreads(true).build();
+        var components = new ComponentsExtractor(applicationContext, options)
+                .getComponents(SchedulerSchemeTest.SchedulerService.class);
+        var schema = new PlantUmlTextFactory("test-app", PlantUmlTextFactory.Options.DEFAULT).create(components);
+        var expectedSchema = new String(copyToByteArray(SchedulerSchemeTest.class
+                .getResourceAsStream("/SchedulerSchemeTest.puml")), UTF_8);
+        assertEquals(expectedSchema, schema);
+    }
+
+    @Test
+    public void cachedTest() throws IOException {
+        var options = ComponentsExtractor.Options.DEFAULT.toBuilder().cacheDirectory(cacheDirectory).build();
+        var expectedSchema = new String(copyToByteArray(SchedulerSchemeTest.class
+                .getResourceAsStream("/SchedulerSchemeTest.puml")), UTF_8);
+
+        var coldComponents = new ComponentsExtractor(applicationContext, options)
+                .getComponents(SchedulerSchemeTest.SchedulerService.class);
+        var coldSchema = new PlantUmlTextFactory("test-app", PlantUmlTextFactory.Options.DEFAULT)
+                .create(coldComponents);
+        assertEquals(expectedSchema, coldSchema);
+
+        var warmComponents = new ComponentsExtractor(applicationContext, options)
+                .getComponents(SchedulerSchemeTest.SchedulerService.class);
+        var warmSchema = new PlantUmlTextFactory("test-app", PlantUmlTextFactory.Options.DEFAULT)
+                .create(warmComponents);
+        assertEquals(expectedSchema, warmSchema);
+    }
+
     @Service
     @RequiredArgsConstructor
     public static class SchedulerService implements SchedulingConfigurer, Runnable {
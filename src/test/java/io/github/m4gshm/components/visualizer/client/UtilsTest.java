@@ -0,0 +1,47 @@
+package io.github.m4gshm.components.visualizer.client;
+
+import io.github.m4gshm.components.visualizer.eval.bytecode.EvalBudgetExceededException;
+import io.github.m4gshm.components.visualizer.model.Component;
+import org.apache.bcel.classfile.Method;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.github.m4gshm.components.visualizer.ComponentsExtractorUtils.handleError;
+import static io.github.m4gshm.components.visualizer.client.Utils.extractCall;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.byName;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.getClassAndMethodSources;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UtilsTest {
+
+    private final Component component = Component.builder().name("component").bean(this).build();
+    private final Method method = getClassAndMethodSources(UtilsTest.class, byName("method")).findFirst().get()
+            .getValue();
+
+    @Test
+    public void extractCallTest() {
+        assertEquals(List.of("value"), extractCall(component, method, false, () -> List.of("value")));
+    }
+
+    @Test
+    public void extractCallBudgetExceededTest() {
+        assertEquals(List.of(), extractCall(component, method, false, () -> {
+            throw new EvalBudgetExceededException(method);
+        }));
+    }
+
+    @Test
+    public void extractCallBudgetExceededFailFastTest() {
+        assertThrows(EvalBudgetExceededException.class, () -> extractCall(component, method, true, () -> {
+            throw new EvalBudgetExceededException(method);
+        }));
+        assertThrows(EvalBudgetExceededException.class, () -> handleError("error, component", "component",
+                new EvalBudgetExceededException(method), true));
+    }
+
+    public String method() {
+        return "value";
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.m4gshm.components.visualizer.eval.bytecode;
+
+import io.github.m4gshm.components.visualizer.model.CallPoint;
+import org.apache.bcel.generic.Type;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static io.github.m4gshm.components.visualizer.CallPointsHelper.getMethods;
+import static io.github.m4gshm.components.visualizer.CallPointsHelper.isObject;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.BytecodeCache.newBytecodeCache;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.CallPointsIndex.newCallPointsIndex;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.ClassCache.newClassCache;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.ClassCache.noClassCache;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalContextFactoryImpl.getCalledMethodClass;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.getClassSources;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.InvokeIndex.InvokeIndexProvider.newInvokeIndexCache;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CallPointsIndexTest {
+
+    private static List<CallPoint> getCallPoints(Class<?> componentType) {
+        var invokeIndexProvider = newInvokeIndexCache(newBytecodeCache());
+        return getClassSources(componentType).stream().filter(javaClass -> !isObject(javaClass))
+                .flatMap(javaClass -> getMethods(javaClass, componentType, invokeIndexProvider))
+                .collect(toList());
+    }
+
+    //the matching of call points by a full scan, as it was before the index
+    private static Map<CallPoint, List<CallPoint>> getMatchedCallPoints(List<CallPoint> methodCallPoints,
+                                                                        String methodName, Type[] argumentTypes,
+                                                                        Class<?> declaringClass) {
+        var result = new LinkedHashMap<CallPoint, List<CallPoint>>();
+        for (var dependentMethod : methodCallPoints) {
+            var matched = dependentMethod.getCallPoints().stream().filter(calledMethod -> {
+                var match = isMatch(methodName, argumentTypes, declaringClass, calledMethod);
+                var cycled = isMatch(dependentMethod.getMethodName(), dependentMethod.getArgumentTypes(),
+                        dependentMethod.getOwnerClass(), calledMethod);
+                return match && !cycled;
+            }).collect(toList());
+            if (!matched.isEmpty()) {
+                result.put(dependentMethod, matched);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isMatch(String methodName, Type[] argumentTypes, Class<?> declaringClass,
+                                   CallPoint calledMethod) {
+        var calledMethodClass = getCalledMethodClass(calledMethod, noClassCache());
+        return methodName.equals(calledMethod.getMethodName())
+                && Arrays.equals(argumentTypes, calledMethod.getArgumentTypes())
+                && calledMethodClass != null && calledMethodClass.isAssignableFrom(declaringClass);
+    }
+
+    @Test
+    public void indexEquivalenceTest() {
+        var callPoints = getCallPoints(Caller.class);
+        var index = newCallPointsIndex(callPoints, newClassCache());
+
+        var calledMethods = callPoints.stream().flatMap(callPoint -> callPoint.getCallPoints().stream())
+                .collect(toList());
+        assertFalse(calledMethods.isEmpty());
+
+        var declaringClasses = List.of(Service.class, ServiceImpl.class, Caller.class, String.class, Object.class);
+        var matchedAny = false;
+        for (var calledMethod : calledMethods) {
+            for (var declaringClass : declaringClasses) {
+                var methodName = calledMethod.getMethodName();
+                var argumentTypes = calledMethod.getArgumentTypes();
+                var expected = getMatchedCallPoints(callPoints, methodName, argumentTypes, declaringClass);
+                var actual = index.getCallPoints(methodName, argumentTypes, declaringClass);
+                var query = declaringClass.getName() + "." + methodName + Arrays.toString(argumentTypes);
+                assertEquals(expected, actual, query);
+                assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()), query);
+                matchedAny |= !expected.isEmpty();
+            }
+        }
+        assertTrue(matchedAny, "no matched call points");
+        assertEquals(Map.of(), index.getCallPoints("absent", new Type[0], Service.class));
+    }
+
+    public interface Service {
+        String get(String value);
+
+        String get(String value, int index);
+    }
+
+    public static class ServiceImpl implements Service {
+        @Override
+        public String get(String value) {
+            return value;
+        }
+
+        @Override
+        public String get(String value, int index) {
+            return value;
+        }
+    }
+
+    public static class Caller {
+        Service service = new ServiceImpl();
+
+        public String call(String value) {
+            service.get(value, 1);
+            return service.get(value.trim());
+        }
+
+        public String callAgain(String value) {
+            return service.get(value);
+        }
+
+        public String cycle(String value) {
+            return value.isEmpty() ? value : cycle(value.substring(1));
+        }
+
+        public String cycleCaller(String value) {
+            return cycle(value);
+        }
+    }
+}
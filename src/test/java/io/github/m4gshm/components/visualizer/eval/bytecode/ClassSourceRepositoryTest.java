@@ -0,0 +1,31 @@
+package io.github.m4gshm.components.visualizer.eval.bytecode;
+
+import org.junit.jupiter.api.Test;
+
+import static io.github.m4gshm.components.visualizer.eval.bytecode.ClassSourceRepository.newClassSourceRepository;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ClassSourceRepositoryTest {
+
+    @Test
+    public void referencedClassIsNotParsedAgainTest() throws ClassNotFoundException {
+        var repository = newClassSourceRepository(1);
+        var first = repository.loadClass(First.class);
+        repository.loadClass(Second.class);
+        repository.loadClass(Third.class.getName());
+
+        assertSame(first, repository.loadClass(First.class));
+        assertSame(first, repository.loadClass(First.class.getName()));
+        assertEquals(3, repository.getStats().loadCount());
+    }
+
+    public static class First {
+    }
+
+    public static class Second {
+    }
+
+    public static class Third {
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.m4gshm.components.visualizer.eval.bytecode;
+
+import io.github.m4gshm.components.visualizer.eval.result.Resolver;
+import io.github.m4gshm.components.visualizer.eval.result.Result;
+import io.github.m4gshm.components.visualizer.model.Component;
+import org.apache.bcel.classfile.Method;
+import org.apache.bcel.generic.InstructionHandle;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.m4gshm.components.visualizer.eval.bytecode.BytecodeCache.noBytecodeCache;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.Eval.CallCache.noCallCache;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.byName;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.getClassAndMethodSources;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.InstructionUtils.instructions;
+import static io.github.m4gshm.components.visualizer.eval.result.Result.constant;
+import static io.github.m4gshm.components.visualizer.eval.result.Result.delay;
+import static org.apache.bcel.generic.Type.STRING;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EvalBudgetTest {
+
+    private final Method method = getClassAndMethodSources(EvalBudgetTest.class, byName("method")).findFirst().get()
+            .getValue();
+
+    private static void visit(EvalBudget budget, int times) {
+        for (int i = 0; i < times; i++) {
+            budget.visit();
+        }
+    }
+
+    @Test
+    public void instructionsBudgetTest() {
+        var exceeded = new AtomicInteger();
+        var budget = new EvalBudget.Limits(2, null, (component, method) -> exceeded.incrementAndGet())
+                .newEvalBudget(null, method);
+
+        visit(budget, 2);
+        assertThrows(EvalBudgetExceededException.class, budget::visit);
+        assertThrows(EvalBudgetExceededException.class, budget::check);
+        assertThrows(EvalBudgetExceededException.class, budget::visit);
+        assertEquals(1, exceeded.get(), "the listener must be notified once");
+    }
+
+    @Test
+    public void timeBudgetAccumulatesEntriesTest() throws InterruptedException {
+        var budget = new EvalBudget.Limits(-1, Duration.ofMillis(50), (component, method) -> {
+        }).newEvalBudget(null, method);
+
+        budget.enter();
+        Thread.sleep(100);
+        budget.exit();
+
+        assertThrows(EvalBudgetExceededException.class, () -> visit(budget, 64));
+    }
+
+    @Test
+    public void timeBudgetIgnoresTimeOutsideEntriesTest() throws InterruptedException {
+        var budget = new EvalBudget.Limits(-1, Duration.ofMillis(50), (component, method) -> {
+        }).newEvalBudget(null, method);
+
+        budget.enter();
+        budget.exit();
+        Thread.sleep(100);
+
+        budget.enter();
+        try {
+            visit(budget, 64);
+        } finally {
+            budget.exit();
+        }
+        budget.check();
+    }
+
+    @Test
+    public void budgetFallbackTest() {
+        var settings = EvalSettings.builder()
+                .budgetLimits(new EvalBudget.Limits(0, null, (component, method) -> {
+                }))
+                .build();
+        var eval = new EvalContextFactoryImpl(noCallCache(), noBytecodeCache(), component -> List.of(),
+                type -> List.of(), null, settings).getEvalContext(Component.builder().bean(this).build(),
+                getClassAndMethodSources(EvalBudgetTest.class, byName("method")).findFirst().get().getKey(), method);
+
+        var handle = instructions(method).findFirst().get();
+        assertThrows(EvalBudgetExceededException.class, () -> eval.eval(handle));
+
+        var delay = delay("value", null, null, STRING, eval, List.of(), (d, e, resolver) -> {
+            return fail("must not be evaluated after the budget is exceeded");
+        });
+        var resolved = eval.resolve(delay, new Resolver() {
+            @Override
+            public Resolver withEval(Eval eval) {
+                return this;
+            }
+
+            @Override
+            public Result resolve(Result unresolved, EvalException cause) {
+                assertInstanceOf(EvalBudgetExceededException.class, cause);
+                return constant("unresolved", STRING, (InstructionHandle) null, null, null, List.of());
+            }
+        });
+        assertEquals("unresolved", resolved.getValue());
+    }
+
+    public String method() {
+        return "value";
+    }
+}
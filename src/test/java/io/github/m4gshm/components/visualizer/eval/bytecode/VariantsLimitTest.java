@@ -0,0 +1,64 @@
+package io.github.m4gshm.components.visualizer.eval.bytecode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static io.github.m4gshm.components.visualizer.eval.bytecode.VariantsLimit.noVariantsLimit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class VariantsLimitTest {
+
+    @Test
+    public void collectTruncationTest() {
+        var truncations = new AtomicInteger();
+        var limit = new VariantsLimit(3, (component, method, maxVariants) -> {
+            assertEquals(3, maxVariants);
+            truncations.incrementAndGet();
+        });
+        var generated = new AtomicInteger();
+        var variants = Stream.of(1, 1, 2, 3, 4, 5, 6).peek(v -> generated.incrementAndGet());
+
+        assertEquals(List.of(1, 2, 3), limit.collect(variants, null, null));
+        assertEquals(1, truncations.get());
+        assertEquals(5, generated.get(), "the variants after the first cut off one must not be generated");
+    }
+
+    @Test
+    public void collectNotTruncatedTest() {
+        var truncations = new AtomicInteger();
+        var limit = new VariantsLimit(3, (component, method, maxVariants) -> truncations.incrementAndGet());
+
+        assertEquals(List.of(1, 2, 3), limit.collect(Stream.of(1, 2, 2, 3), null, null));
+        assertEquals(0, truncations.get());
+        assertEquals(List.of(1, 2, 3, 4), noVariantsLimit().collect(Stream.of(1, 2, 3, 4), null, null));
+    }
+
+    @Test
+    public void collectNotLimitedKeepsDuplicatesTest() {
+        assertEquals(List.of(1, 2, 2, 3, 1), noVariantsLimit().collect(Stream.of(1, 2, 2, 3, 1), null, null));
+    }
+
+    @Test
+    public void addAllTruncationTest() {
+        var truncations = new AtomicInteger();
+        var limit = new VariantsLimit(2, (component, method, maxVariants) -> truncations.incrementAndGet());
+        var target = new LinkedHashSet<Integer>();
+
+        assertFalse(limit.addAll(target, List.of(1, 2), null, null));
+        assertEquals(0, truncations.get());
+
+        assertFalse(limit.addAll(target, List.of(2, 1), null, null), "existing variants are not cut off");
+        assertEquals(0, truncations.get());
+
+        assertTrue(limit.addAll(target, List.of(3, 4), null, null));
+        assertEquals(Set.of(1, 2), target);
+        assertEquals(1, truncations.get());
+    }
+}
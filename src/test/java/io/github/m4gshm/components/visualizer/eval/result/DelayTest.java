@@ -0,0 +1,61 @@
+package io.github.m4gshm.components.visualizer.eval.result;
+
+import io.github.m4gshm.components.visualizer.eval.bytecode.Eval;
+import io.github.m4gshm.components.visualizer.eval.bytecode.EvalContextFactoryImpl;
+import io.github.m4gshm.components.visualizer.model.Component;
+import org.apache.bcel.generic.InstructionHandle;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.m4gshm.components.visualizer.eval.bytecode.Eval.CallCache.noCallCache;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.byName;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.getClassAndMethodSources;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.StringifyResolver.Level.varOnly;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.StringifyResolver.newStringify;
+import static io.github.m4gshm.components.visualizer.eval.result.Result.constant;
+import static io.github.m4gshm.components.visualizer.eval.result.Result.delay;
+import static java.util.stream.Collectors.toList;
+import static org.apache.bcel.generic.Type.STRING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DelayTest {
+
+    private static Result argument(String value, Eval eval) {
+        return constant(value, STRING, (InstructionHandle) null, null, eval, List.of());
+    }
+
+    @Test
+    public void delayedPerArgumentsVariantTest() {
+        var classMethod = getClassAndMethodSources(DelayTest.class, byName("concat")).findFirst().get();
+        var evalContext = new EvalContextFactoryImpl(noCallCache(), component -> List.of(), type -> List.of(), null)
+                .getEvalContext(Component.builder().bean(this).build(), classMethod.getKey(), classMethod.getValue());
+
+        var calls = new AtomicInteger();
+        var delay = delay("value", null, null, STRING, evalContext, List.of(), (d, eval, resolver) -> {
+            calls.incrementAndGet();
+            return eval.getArguments().get(1);
+        });
+
+        //arguments of two callers of the method
+        var variants = new LinkedHashSet<Map<Integer, Result>>();
+        variants.add(Map.of(1, argument("first", evalContext)));
+        variants.add(Map.of(1, argument("second", evalContext)));
+        var eval = evalContext.withArgumentVariants(variants);
+        var resolver = newStringify(varOnly, false);
+
+        var resolved = (Multiple) eval.resolve(delay, resolver);
+        var values = resolved.getResults().stream().map(Result::getValue).collect(toList());
+        assertEquals(List.of("first", "second"), values);
+
+        eval.resolve(delay, resolver);
+        assertEquals(2, calls.get(), "delayed results must be memoized per arguments variant");
+    }
+
+    public String concat(String value) {
+        return "value:" + value;
+    }
+}
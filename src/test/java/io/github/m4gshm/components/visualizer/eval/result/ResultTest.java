@@ -0,0 +1,44 @@
+package io.github.m4gshm.components.visualizer.eval.result;
+
+import io.github.m4gshm.components.visualizer.eval.bytecode.EvalContextFactoryImpl;
+import io.github.m4gshm.components.visualizer.model.Component;
+import org.apache.bcel.generic.InstructionList;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.github.m4gshm.components.visualizer.eval.bytecode.Eval.CallCache.noCallCache;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.byName;
+import static io.github.m4gshm.components.visualizer.eval.bytecode.EvalUtils.getClassAndMethodSources;
+import static io.github.m4gshm.components.visualizer.eval.result.Result.constant;
+import static org.apache.bcel.generic.InstructionConst.ICONST_0;
+import static org.apache.bcel.generic.InstructionConst.ICONST_1;
+import static org.apache.bcel.generic.Type.STRING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class ResultTest {
+
+    @Test
+    public void instructionsFingerprintTest() {
+        var classMethod = getClassAndMethodSources(ResultTest.class, byName("method")).findFirst().get();
+        var eval = new EvalContextFactoryImpl(noCallCache(), component -> List.of(), type -> List.of(), null)
+                .getEvalContext(Component.builder().bean(this).build(), classMethod.getKey(), classMethod.getValue());
+        var instructions = new InstructionList();
+        var first = instructions.append(ICONST_0);
+        var second = instructions.append(ICONST_1);
+
+        var result = constant("value", STRING, List.of(first, second), List.of(second), null, eval, List.of());
+        var reordered = constant("value", STRING, List.of(second, first, second), List.of(second), null, eval,
+                List.of());
+        var other = constant("value", STRING, List.of(first), List.of(second), null, eval, List.of());
+
+        assertEquals(result, reordered);
+        assertEquals(result.hashCode(), reordered.hashCode());
+        assertNotEquals(result, other);
+    }
+
+    public String method() {
+        return "value";
+    }
+}
@@ -0,0 +1,43 @@
+plugins {
+    `java-library`
+    id("org.springframework.boot") version "2.7.18" apply false
+    id("io.spring.dependency-management") version ("1.1.4")
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencyManagement {
+    imports {
+        mavenBom(org.springframework.boot.gradle.plugin.SpringBootPlugin.BOM_COORDINATES)
+    }
+}
+
+dependencies {
+    api(project(":"))
+
+    implementation("org.springframework.boot:spring-boot-starter-web")
+    implementation("org.springframework.boot:spring-boot-starter-websocket")
+    implementation("org.springframework:spring-jms")
+    implementation("javax.jms:javax.jms-api:2.0.1")
+}
+
+java {
+    targetCompatibility = JavaVersion.VERSION_11
+    sourceCompatibility = JavaVersion.VERSION_11
+    modularity.inferModulePath.set(true)
+}
+
+tasks.register<JavaExec>("scalability") {
+    group = "verification"
+    description = "Measures components extraction and PlantUML rendering of generated applications"
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("scalability.ScalabilityHarness")
+    args = listOf(
+        (findProperty("sizes") ?: "1000,5000,10000").toString(),
+        (findProperty("chainLength") ?: "5").toString(),
+        "$buildDir/scalability",
+        (findProperty("output") ?: "$buildDir/scalability/results.jsonl").toString()
+    )
+}
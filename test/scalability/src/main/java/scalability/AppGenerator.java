@@ -0,0 +1,216 @@
+package scalability;
+
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Generates sources of a synthetic Spring application: controllers, scheduled jobs and services forming dependency
+ * chains that end with RestTemplate, JmsTemplate or WebSocketClient based clients.
+ */
+public class AppGenerator {
+    public static final String ROOT_PACKAGE = "generated.app";
+    public static final String APPLICATION_CLASS = ROOT_PACKAGE + ".Application";
+
+    private final int beans;
+    private final int chainLength;
+
+    public AppGenerator(int beans, int chainLength) {
+        this.beans = beans;
+        this.chainLength = Math.max(1, chainLength);
+    }
+
+    private static String controller(int index, int service) {
+        return format("package %1$s.api;\n\n" +
+                "import %1$s.service.Service%3$d;\n" +
+                "import org.springframework.web.bind.annotation.*;\n\n" +
+                "@RestController\n" +
+                "@RequestMapping(\"/api/v1/controller%2$d\")\n" +
+                "public class Controller%2$d {\n" +
+                "    private final Service%3$d service;\n\n" +
+                "    public Controller%2$d(Service%3$d service) {\n" +
+                "        this.service = service;\n" +
+                "    }\n\n" +
+                "    @GetMapping(\"/items/{id}\")\n" +
+                "    public String get(@PathVariable(\"id\") String id) {\n" +
+                "        return service.handle(id);\n" +
+                "    }\n\n" +
+                "    @PostMapping(\"/items\")\n" +
+                "    public String post(@RequestBody String body) {\n" +
+                "        return service.handle(\"body:\" + body);\n" +
+                "    }\n" +
+                "}\n", ROOT_PACKAGE, index, service);
+    }
+
+    private static String scheduled(int index, int service) {
+        return format("package %1$s.scheduled;\n\n" +
+                "import %1$s.service.Service%3$d;\n" +
+                "import org.springframework.scheduling.annotation.Scheduled;\n" +
+                "import org.springframework.stereotype.Component;\n\n" +
+                "@Component\n" +
+                "public class Job%2$d {\n" +
+                "    private final Service%3$d service;\n\n" +
+                "    public Job%2$d(Service%3$d service) {\n" +
+                "        this.service = service;\n" +
+                "    }\n\n" +
+                "    @Scheduled(fixedDelay = %4$d)\n" +
+                "    public void run() {\n" +
+                "        service.handle(\"job%2$d\");\n" +
+                "    }\n" +
+                "}\n", ROOT_PACKAGE, index, service, 1000L * (index % 10 + 1));
+    }
+
+    private static String service(int index, String dependencyType, String call) {
+        return format("package %1$s.service;\n\n" +
+                "import org.springframework.stereotype.Service;\n\n" +
+                "@Service\n" +
+                "public class Service%2$d {\n" +
+                "    private final %3$s dependency;\n\n" +
+                "    public Service%2$d(%3$s dependency) {\n" +
+                "        this.dependency = dependency;\n" +
+                "    }\n\n" +
+                "    public String handle(String value) {\n" +
+                "        return %4$s;\n" +
+                "    }\n" +
+                "}\n", ROOT_PACKAGE, index, dependencyType, call);
+    }
+
+    private static String restClient(int index) {
+        return format("package %1$s.client;\n\n" +
+                "import org.springframework.stereotype.Component;\n" +
+                "import org.springframework.web.client.RestTemplate;\n\n" +
+                "@Component\n" +
+                "public class RestClient%2$d {\n" +
+                "    private final RestTemplate restTemplate;\n" +
+                "    private final String baseUrl = \"http://service%2$d\";\n\n" +
+                "    public RestClient%2$d(RestTemplate restTemplate) {\n" +
+                "        this.restTemplate = restTemplate;\n" +
+                "    }\n\n" +
+                "    public String call(String id) {\n" +
+                "        return restTemplate.getForObject(baseUrl + \"/items/\" + id, String.class);\n" +
+                "    }\n" +
+                "}\n", ROOT_PACKAGE, index);
+    }
+
+    private static String jmsClient(int index) {
+        return format("package %1$s.client;\n\n" +
+                "import org.springframework.jms.core.JmsTemplate;\n" +
+                "import org.springframework.stereotype.Component;\n\n" +
+                "@Component\n" +
+                "public class JmsClient%2$d {\n" +
+                "    private final JmsTemplate jmsTemplate;\n\n" +
+                "    public JmsClient%2$d(JmsTemplate jmsTemplate) {\n" +
+                "        this.jmsTemplate = jmsTemplate;\n" +
+                "    }\n\n" +
+                "    public String call(String message) {\n" +
+                "        jmsTemplate.convertAndSend(\"queue%2$d\", message);\n" +
+                "        return message;\n" +
+                "    }\n" +
+                "}\n", ROOT_PACKAGE, index);
+    }
+
+    private static String wsClient(int index) {
+        return format("package %1$s.client;\n\n" +
+                "import org.springframework.stereotype.Component;\n" +
+                "import org.springframework.web.socket.client.WebSocketClient;\n" +
+                "import org.springframework.web.socket.handler.TextWebSocketHandler;\n\n" +
+                "@Component\n" +
+                "public class WsClient%2$d {\n" +
+                "    private final WebSocketClient webSocketClient;\n\n" +
+                "    public WsClient%2$d(WebSocketClient webSocketClient) {\n" +
+                "        this.webSocketClient = webSocketClient;\n" +
+                "    }\n\n" +
+                "    public String call(String topic) {\n" +
+                "        webSocketClient.doHandshake(new TextWebSocketHandler(), \"ws://service%2$d/events/\" + topic);\n" +
+                "        return topic;\n" +
+                "    }\n" +
+                "}\n", ROOT_PACKAGE, index);
+    }
+
+    private static String application() {
+        return format("package %1$s;\n\n" +
+                "import org.springframework.context.annotation.Configuration;\n\n" +
+                "@Configuration\n" +
+                "public class Application {\n" +
+                "}\n", ROOT_PACKAGE);
+    }
+
+    private static Path write(Path sourceDir, String className, String source) {
+        var file = sourceDir.resolve(className.replace('.', '/') + ".java");
+        try {
+            Files.createDirectories(file.getParent());
+            return Files.writeString(file, source, UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Bean mix: 10% controllers, 10% scheduled jobs, 30% clients (rest, jms and websocket), 50% services.
+     */
+    public List<Path> generate(Path sourceDir) {
+        var controllers = Math.max(1, beans / 10);
+        var jobs = Math.max(1, beans / 10);
+        var clients = Math.max(1, beans * 3 / 10);
+        var services = Math.max(1, beans - controllers - jobs - clients);
+
+        var files = new ArrayList<Path>();
+        files.add(write(sourceDir, APPLICATION_CLASS, application()));
+        for (int i = 0; i < clients; i++) {
+            var kind = i % 6;
+            if (kind < 3) {
+                files.add(write(sourceDir, ROOT_PACKAGE + ".client.RestClient" + i, restClient(i)));
+            } else if (kind < 5) {
+                files.add(write(sourceDir, ROOT_PACKAGE + ".client.JmsClient" + i, jmsClient(i)));
+            } else {
+                files.add(write(sourceDir, ROOT_PACKAGE + ".client.WsClient" + i, wsClient(i)));
+            }
+        }
+        for (int i = 0; i < services; i++) {
+            final String source;
+            if (i % chainLength == 0) {
+                var client = i / chainLength % clients;
+                var kind = client % 6;
+                var type = ROOT_PACKAGE + ".client." + (kind < 3 ? "RestClient" : kind < 5 ? "JmsClient" : "WsClient")
+                        + client;
+                source = service(i, type, "dependency.call(value + \"/service" + i + "\")");
+            } else {
+                source = service(i, "Service" + (i - 1), "dependency.handle(value + \"/service" + i + "\")");
+            }
+            files.add(write(sourceDir, ROOT_PACKAGE + ".service.Service" + i, source));
+        }
+        for (int i = 0; i < controllers; i++) {
+            files.add(write(sourceDir, ROOT_PACKAGE + ".api.Controller" + i, controller(i, i % services)));
+        }
+        for (int i = 0; i < jobs; i++) {
+            files.add(write(sourceDir, ROOT_PACKAGE + ".scheduled.Job" + i, scheduled(i, (i * 7) % services)));
+        }
+        return files;
+    }
+
+    public void compile(List<Path> sources, Path classesDir, String classpath) {
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("java compiler is not available, run on JDK");
+        }
+        try (var fileManager = compiler.getStandardFileManager(null, null, UTF_8)) {
+            Files.createDirectories(classesDir);
+            var units = fileManager.getJavaFileObjectsFromPaths(sources);
+            var options = List.of("-d", classesDir.toString(), "-classpath", classpath, "-parameters",
+                    "-proc:none", "-nowarn");
+            var success = compiler.getTask(null, fileManager, null, options, null, units).call();
+            if (!success) {
+                throw new IllegalStateException("generated sources compilation error");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package scalability;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Generates and compiles an application per requested size, then measures each one in a separate JVM to isolate heap
+ * and GC statistics. Results are appended to the output file as JSON lines.
+ * <p>
+ * Arguments: comma separated sizes, services chain length, work directory, output file.
+ */
+public class ScalabilityHarness {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        var sizes = Arrays.stream((args.length > 0 ? args[0] : "1000,5000,10000").split(","))
+                .map(String::trim).map(Integer::parseInt).collect(toList());
+        var chainLength = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        var workDir = Path.of(args.length > 2 ? args[2] : "build/scalability");
+        var output = Path.of(args.length > 3 ? args[3] : workDir.resolve("results.jsonl").toString());
+        var classpath = System.getProperty("java.class.path");
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        for (var size : sizes) {
+            var generator = new AppGenerator(size, chainLength);
+            var sizeDir = workDir.resolve(String.valueOf(size));
+            var sources = generator.generate(sizeDir.resolve("src"));
+            var classesDir = sizeDir.resolve("classes");
+            generator.compile(sources, classesDir, classpath);
+
+            var result = run(classpath + File.pathSeparator + classesDir.toAbsolutePath(), size, chainLength);
+            System.out.println(result);
+            Files.writeString(output, result + System.lineSeparator(), UTF_8, CREATE, APPEND);
+        }
+    }
+
+    private static String run(String classpath, int size, int chainLength) throws IOException, InterruptedException {
+        var java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        var command = new ArrayList<>(List.of(java, "-cp", classpath));
+        var maxHeap = System.getProperty("scalability.maxHeap");
+        if (maxHeap != null) {
+            command.add("-Xmx" + maxHeap);
+        }
+        command.addAll(List.of(ScalabilityRun.class.getName(), String.valueOf(size), String.valueOf(chainLength)));
+
+        var process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        String result = null;
+        try (var reader = new BufferedReader(new InputStreamReader(process.getInputStream(), UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(ScalabilityRun.RESULT_PREFIX)) {
+                    result = line.substring(ScalabilityRun.RESULT_PREFIX.length());
+                }
+            }
+        }
+        var exitCode = process.waitFor();
+        if (exitCode != 0 || result == null) {
+            throw new IllegalStateException("scalability run failed, size " + size + ", exit code " + exitCode);
+        }
+        return result;
+    }
+}
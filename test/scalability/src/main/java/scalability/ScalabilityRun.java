@@ -0,0 +1,167 @@
+package scalability;
+
+import io.github.m4gshm.components.visualizer.ComponentsExtractor;
+import io.github.m4gshm.components.visualizer.PlantUmlTextFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.WebSocketClient;
+
+import javax.jms.ConnectionFactory;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Measures components extraction and PlantUML rendering of one generated application.
+ * Prints the result as a JSON line prefixed by {@link #RESULT_PREFIX}.
+ */
+public class ScalabilityRun {
+    public static final String RESULT_PREFIX = "scalability-result:";
+
+    public static void main(String[] args) throws Exception {
+        var beans = Integer.parseInt(args[0]);
+        var chainLength = Integer.parseInt(args[1]);
+        var root = Class.forName(AppGenerator.APPLICATION_CLASS);
+
+        try (var context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(RestTemplate.class, RestTemplate::new);
+            context.registerBean(JmsTemplate.class, () -> new JmsTemplate(stubConnectionFactory()));
+            context.registerBean(WebSocketClient.class, StubWebSocketClient::new);
+            context.scan(AppGenerator.ROOT_PACKAGE);
+            context.refresh();
+
+            var extractor = new ComponentsExtractor(context, ComponentsExtractor.Options.DEFAULT);
+            var extract = measure(() -> extractor.getComponents(root));
+            var components = extract.result;
+            var render = measure(() -> new PlantUmlTextFactory("scalability", PlantUmlTextFactory.Options.DEFAULT)
+                    .create(components));
+
+            System.out.println(RESULT_PREFIX + format("{\"beans\":%d,\"chainLength\":%d,\"contextBeans\":%d," +
+                            "\"components\":%d,\"diagramChars\":%d,\"extract\":%s,\"render\":%s}",
+                    beans, chainLength, context.getBeanDefinitionCount(), components.getComponents().size(),
+                    render.result.length(), extract.toJson(), render.toJson()));
+        }
+    }
+
+    private static ConnectionFactory stubConnectionFactory() {
+        return (ConnectionFactory) Proxy.newProxyInstance(ScalabilityRun.class.getClassLoader(),
+                new Class[]{ConnectionFactory.class}, (proxy, method, args) -> {
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static <T> Measure<T> measure(Callable<T> callable) throws Exception {
+        System.gc();
+        var heapSampler = new HeapSampler();
+        var gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+        var gcCount = gcBeans.stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+        var gcTime = gcBeans.stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+
+        var start = System.nanoTime();
+        heapSampler.start();
+        T result;
+        try {
+            result = callable.call();
+        } finally {
+            heapSampler.stop();
+        }
+        var wallMs = (System.nanoTime() - start) / 1_000_000;
+
+        var peakHeap = heapSampler.getPeakUsed();
+        var gcCountDelta = gcBeans.stream().mapToLong(GarbageCollectorMXBean::getCollectionCount).sum() - gcCount;
+        var gcTimeDelta = gcBeans.stream().mapToLong(GarbageCollectorMXBean::getCollectionTime).sum() - gcTime;
+        return new Measure<>(result, wallMs, peakHeap, gcCountDelta, gcTimeDelta);
+    }
+
+    /**
+     * Polls the total heap usage, the pools peaks are reached at different moments and cannot be summed.
+     */
+    private static class HeapSampler implements Runnable {
+        private static final long SAMPLE_INTERVAL_MS = 5;
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final Thread thread = new Thread(this, "heap-sampler");
+        private final AtomicLong peakUsed = new AtomicLong();
+        private volatile boolean stopped;
+
+        void start() {
+            sample();
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        void stop() throws InterruptedException {
+            stopped = true;
+            thread.interrupt();
+            thread.join();
+            sample();
+        }
+
+        long getPeakUsed() {
+            return peakUsed.get();
+        }
+
+        @Override
+        public void run() {
+            while (!stopped) {
+                sample();
+                try {
+                    Thread.sleep(SAMPLE_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        private void sample() {
+            var used = memory.getHeapMemoryUsage().getUsed();
+            peakUsed.accumulateAndGet(used, Math::max);
+        }
+    }
+
+    private static class Measure<T> {
+        final T result;
+        final long wallMs;
+        final long peakHeapBytes;
+        final long gcCount;
+        final long gcTimeMs;
+
+        Measure(T result, long wallMs, long peakHeapBytes, long gcCount, long gcTimeMs) {
+            this.result = result;
+            this.wallMs = wallMs;
+            this.peakHeapBytes = peakHeapBytes;
+            this.gcCount = gcCount;
+            this.gcTimeMs = gcTimeMs;
+        }
+
+        String toJson() {
+            return format("{\"wallMs\":%d,\"peakHeapBytes\":%d,\"gcCount\":%d,\"gcTimeMs\":%d}",
+                    wallMs, peakHeapBytes, gcCount, gcTimeMs);
+        }
+    }
+
+    private static class StubWebSocketClient implements WebSocketClient {
+        @Override
+        public ListenableFuture<WebSocketSession> doHandshake(WebSocketHandler webSocketHandler,
+                                                             String uriTemplate, Object... uriVariables) {
+            return new SettableListenableFuture<>();
+        }
+
+        @Override
+        public ListenableFuture<WebSocketSession> doHandshake(WebSocketHandler webSocketHandler,
+                                                             WebSocketHttpHeaders headers, URI uri) {
+            return new SettableListenableFuture<>();
+        }
+    }
+}